@@ -0,0 +1,75 @@
+package ru.practicum.shareit.benchmark;
+
+import lombok.experimental.UtilityClass;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.Status;
+import ru.practicum.shareit.item.Comment;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.user.User;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+@UtilityClass
+class BenchmarkData {
+    static final LocalDateTime NOW = LocalDateTime.of(2023, 3, 1, 12, 0);
+
+    User user(long id) {
+        return new User(id, "user" + id, "user" + id + "@test.com");
+    }
+
+    List<Item> items(long ownerId, int count) {
+        List<Item> items = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            items.add(new Item(id, "item" + id, "description of item number " + id, ownerId, true, null));
+        }
+        return items;
+    }
+
+    List<Booking> bookings(List<Item> items, User booker, int perItem, boolean past) {
+        List<Booking> bookings = new ArrayList<>(items.size() * perItem);
+        long id = past ? 1 : 1_000_000_000L;
+        for (Item item : items) {
+            for (int i = 1; i <= perItem; i++) {
+                LocalDateTime start = past ? NOW.minusDays(i * 2L) : NOW.plusDays(i * 2L);
+                bookings.add(new Booking(id++, start, start.plusDays(1), item, booker, Status.APPROVED));
+            }
+        }
+        return bookings;
+    }
+
+    List<Comment> comments(List<Item> items, User author, int perItem) {
+        List<Comment> comments = new ArrayList<>(items.size() * perItem);
+        long id = 1;
+        for (Item item : items) {
+            for (int i = 1; i <= perItem; i++) {
+                comments.add(new Comment(id, "comment number " + id, item, author, NOW.minusDays(i)));
+                id++;
+            }
+        }
+        return comments;
+    }
+
+    <T> T repository(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args);
+            }
+            switch (method.getName()) {
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "toString":
+                    return type.getSimpleName();
+                default:
+                    throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+        }));
+    }
+}
@@ -0,0 +1,80 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.BookingRepository;
+import ru.practicum.shareit.item.*;
+import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserIdIndex;
+import ru.practicum.shareit.user.UserRepository;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ItemServiceBenchmark {
+    private static final long OWNER_ID = 1L;
+    @Param({"10", "1000"})
+    private int items;
+    @Param({"1", "20"})
+    private int bookingsPerItem;
+    private ItemService itemService;
+    private long itemId;
+
+    @Setup
+    public void setUp() {
+        User booker = BenchmarkData.user(2L);
+        List<Item> ownerItems = BenchmarkData.items(OWNER_ID, items);
+        List<Booking> lastBookings = BenchmarkData.bookings(ownerItems, booker, bookingsPerItem, true);
+        List<Booking> nextBookings = BenchmarkData.bookings(ownerItems, booker, bookingsPerItem, false);
+        List<Comment> comments = BenchmarkData.comments(ownerItems, booker, 2);
+        Item item = ownerItems.get(0);
+        itemId = item.getId();
+
+        ItemRepository itemRepository = BenchmarkData.repository(ItemRepository.class, Map.of(
+                "findAllByOwnerOrderById", args -> new SliceImpl<>(ownerItems),
+                "findById", args -> Optional.of(item)
+        ));
+        UserRepository userRepository = BenchmarkData.repository(UserRepository.class, Map.of(
+                "existsById", args -> true
+        ));
+        BookingRepository bookingRepository = BenchmarkData.repository(BookingRepository.class, Map.of(
+                "findAllLastByItemIdIn", args -> lastBookings,
+                "findAllNextByItemIdIn", args -> nextBookings,
+                "findFirstByItemIdAndStatusAndStartBeforeOrderByStartDesc", args -> Optional.of(lastBookings.get(0)),
+                "findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc", args -> Optional.of(nextBookings.get(0))
+        ));
+        CommentRepository commentRepository = BenchmarkData.repository(CommentRepository.class, Map.of(
+                "findAllByItemIdIn", args -> comments,
+                "findAllByItemId", args -> comments.subList(0, 2)
+        ));
+        itemService = new ItemServiceImpl(
+                itemRepository,
+                userRepository,
+                new UserIdIndex(userRepository, 1000, Duration.ofMinutes(1)),
+                bookingRepository,
+                commentRepository,
+                new ItemSearchIndex(itemRepository, false)
+        );
+    }
+
+    @Benchmark
+    public List<ItemInfoDto> getAllItems() {
+        return itemService.getAllItems(OWNER_ID, 0, items);
+    }
+
+    @Benchmark
+    public ItemInfoDto getItemById() {
+        return itemService.getItemById(OWNER_ID, itemId);
+    }
+}
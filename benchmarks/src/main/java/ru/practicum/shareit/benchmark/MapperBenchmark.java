@@ -0,0 +1,60 @@
+package ru.practicum.shareit.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.dto.BookingInfoDto;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.dto.CommentDto;
+import ru.practicum.shareit.item.dto.CommentMapper;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.user.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+    private static final int BATCH = 1000;
+    private List<Item> items;
+    private List<Booking> bookings;
+    private BookingInfoDto lastBooking;
+    private BookingInfoDto nextBooking;
+    private List<CommentDto> comments;
+
+    @Setup
+    public void setUp() {
+        User owner = BenchmarkData.user(1L);
+        User booker = BenchmarkData.user(2L);
+        items = BenchmarkData.items(owner.getId(), BATCH);
+        bookings = BenchmarkData.bookings(items, booker, 1, true);
+        lastBooking = BookingMapper.toBookingInfoDto(bookings.get(0));
+        nextBooking = BookingMapper.toBookingInfoDto(BenchmarkData.bookings(items, booker, 1, false).get(0));
+        comments = BenchmarkData.comments(items.subList(0, 1), booker, 5).stream()
+                .map(CommentMapper::toCommentDto)
+                .collect(Collectors.toList());
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void toBookingDto(Blackhole blackhole) {
+        for (Booking booking : bookings) {
+            blackhole.consume(BookingMapper.toBookingDto(booking));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void toItemInfoDto(Blackhole blackhole) {
+        for (Item item : items) {
+            blackhole.consume(ItemMapper.toItemInfoDto(item, lastBooking, nextBooking, comments));
+        }
+    }
+}
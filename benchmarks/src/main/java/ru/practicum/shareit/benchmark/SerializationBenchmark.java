@@ -0,0 +1,71 @@
+package ru.practicum.shareit.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import ru.practicum.shareit.booking.Booking;
+import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.booking.dto.BookingMapper;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.dto.CommentMapper;
+import ru.practicum.shareit.item.dto.ItemInfoDto;
+import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.user.User;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SerializationBenchmark {
+    private static final int PAGE_SIZE = 100;
+    private ObjectMapper objectMapper;
+    private ItemInfoDto itemInfoDto;
+    private BookingDto bookingDto;
+    private List<BookingDto> bookingDtos;
+
+    @Setup
+    public void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        User booker = BenchmarkData.user(2L);
+        List<Item> items = BenchmarkData.items(1L, PAGE_SIZE);
+        List<Booking> lastBookings = BenchmarkData.bookings(items, booker, 1, true);
+        List<Booking> nextBookings = BenchmarkData.bookings(items, booker, 1, false);
+        itemInfoDto = ItemMapper.toItemInfoDto(
+                items.get(0),
+                BookingMapper.toBookingInfoDto(lastBookings.get(0)),
+                BookingMapper.toBookingInfoDto(nextBookings.get(0)),
+                BenchmarkData.comments(items.subList(0, 1), booker, 10).stream()
+                        .map(CommentMapper::toCommentDto)
+                        .collect(Collectors.toList())
+        );
+        bookingDtos = lastBookings.stream()
+                .map(BookingMapper::toBookingDto)
+                .collect(Collectors.toList());
+        bookingDto = bookingDtos.get(0);
+    }
+
+    @Benchmark
+    public byte[] itemInfoDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(itemInfoDto);
+    }
+
+    @Benchmark
+    public byte[] bookingDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookingDto);
+    }
+
+    @Benchmark
+    public byte[] bookingDtoPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(bookingDtos);
+    }
+}
@@ -2,65 +2,74 @@ package ru.practicum.shareit.booking;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingState;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.cache.ResponseCache;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerTransportFactory;
 
+import java.util.HashMap;
 import java.util.Map;
 
+import static ru.practicum.shareit.cache.CacheRegion.ITEMS;
+
 @Service
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
+    private final ResponseCache responseCache;
 
     @Autowired
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, ServerTransportFactory transports,
+                         ResponseCache responseCache) {
+        super(transports.create(serverUrl + API_PREFIX));
+        this.responseCache = responseCache;
     }
 
-    public ResponseEntity<Object> getUserBookings(long userId, BookingState state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state.name(),
-                "from", from,
-                "size", size
-        );
-
-        return get("?state={state}&from={from}&size={size}", userId, parameters);
+    public Mono<ResponseEntity<Object>> getUserBookings(long userId, BookingState state, Integer from, Integer size,
+                                                        String cursor) {
+        return get("?state={state}&size={size}" + pageQuery(cursor),
+                userId, listParameters(state, from, size, cursor));
     }
 
-    public ResponseEntity<Object> getUserItemsBookings(long userId, BookingState state, Integer from, Integer size) {
-        Map<String, Object> parameters = Map.of(
-                "state", state.name(),
-                "from", from,
-                "size", size
-        );
-
-        return get("/owner?state={state}&from={from}&size={size}", userId, parameters);
+    public Mono<ResponseEntity<Object>> getUserItemsBookings(long userId, BookingState state, Integer from,
+                                                             Integer size, String cursor) {
+        return get("/owner?state={state}&size={size}" + pageQuery(cursor),
+                userId, listParameters(state, from, size, cursor));
     }
 
-
-    public ResponseEntity<Object> addBooking(long userId, BookingDto bookingDto) {
+    public Mono<ResponseEntity<Object>> addBooking(long userId, BookingDto bookingDto) {
         return post("", userId, bookingDto);
     }
 
-    public ResponseEntity<Object> approveBooking(long userId, long bookingId, boolean approved) {
+    public Mono<ResponseEntity<Object>> approveBooking(long userId, long bookingId, boolean approved) {
         Map<String, Object> parameters = Map.of(
                 "approved", approved
         );
 
-        return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
+        return responseCache.invalidateOn(patch("/" + bookingId + "?approved={approved}", userId, parameters, null),
+                ITEMS);
+    }
+
+    public Mono<ResponseEntity<Object>> getBooking(long userId, long bookingId, String ifNoneMatch) {
+        return conditionalGet("/" + bookingId, userId, ifNoneMatch);
+    }
+
+    private static String pageQuery(String cursor) {
+        return cursor == null ? "&from={from}" : "&cursor={cursor}";
     }
 
-    public ResponseEntity<Object> getBooking(long userId, long bookingId) {
-        return get("/" + bookingId, userId);
+    private static Map<String, Object> listParameters(BookingState state, Integer from, Integer size, String cursor) {
+        Map<String, Object> parameters = new HashMap<>();
+        parameters.put("state", state.name());
+        parameters.put("size", size);
+        if (cursor == null) {
+            parameters.put("from", from);
+        } else {
+            parameters.put("cursor", cursor);
+        }
+        return parameters;
     }
 }
\ No newline at end of file
@@ -2,10 +2,12 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
@@ -23,46 +25,59 @@ public class BookingController {
 	private final BookingClient bookingClient;
 
 	@GetMapping
-	public ResponseEntity<Object> getUserBookings(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-												  @RequestParam(name = "state", defaultValue = "all") String stateParam,
-												  @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-												  @RequestParam(defaultValue = "10") @Positive int size) {
+	public Mono<ResponseEntity<Object>> getUserBookings(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+												        @RequestParam(name = "state", defaultValue = "all") String stateParam,
+												        @RequestParam(required = false) @PositiveOrZero Integer from,
+												        @RequestParam(defaultValue = "10") @Positive int size,
+												        @RequestParam(required = false) String cursor) {
 		BookingState state = BookingState.from(stateParam)
 				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-		log.info("Получен запрос GET /bookings?state={}&from={}&size={}", state, from, size);
-		return bookingClient.getUserBookings(userId, state, from, size);
+		log.info("Получен запрос GET /bookings?state={}&from={}&size={}&cursor={}", state, from, size, cursor);
+		return bookingClient.getUserBookings(userId, state, offset(from, cursor), size, cursor);
 	}
 
 	@GetMapping("/owner")
-	public ResponseEntity<Object> getUserItemsBookings(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-													   @RequestParam(name = "state", defaultValue = "all") String stateParam,
-													   @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-													   @RequestParam(defaultValue = "10") @Positive int size) {
+	public Mono<ResponseEntity<Object>> getUserItemsBookings(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+													         @RequestParam(name = "state", defaultValue = "all") String stateParam,
+													         @RequestParam(required = false) @PositiveOrZero Integer from,
+													         @RequestParam(defaultValue = "10") @Positive int size,
+													         @RequestParam(required = false) String cursor) {
 		BookingState state = BookingState.from(stateParam)
 				.orElseThrow(() -> new IllegalArgumentException("Unknown state: " + stateParam));
-		log.info("Получен запрос GET /bookings/owner?state={}&from={}&size={}", state, from, size);
-		return bookingClient.getUserItemsBookings(userId, state, from, size);
+		log.info("Получен запрос GET /bookings/owner?state={}&from={}&size={}&cursor={}", state, from, size, cursor);
+		return bookingClient.getUserItemsBookings(userId, state, offset(from, cursor), size, cursor);
 	}
 
 	@PostMapping
-	public ResponseEntity<Object> addBooking(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-											 @RequestBody @Valid BookingDto bookingDto) {
+	public Mono<ResponseEntity<Object>> addBooking(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+											       @RequestBody @Valid BookingDto bookingDto) {
 		log.info("Получен запрос POST /bookings");
 		return bookingClient.addBooking(userId, bookingDto);
 	}
 
 	@PatchMapping("/{bookingId}")
-	public ResponseEntity<Object> approveBooking(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-									 @PathVariable @Positive long bookingId,
-									 @RequestParam boolean approved) {
+	public Mono<ResponseEntity<Object>> approveBooking(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+									       @PathVariable @Positive long bookingId,
+									       @RequestParam boolean approved) {
 		log.info("Получен запрос PATCH /bookings/{}?approved={}", bookingId, approved);
 		return bookingClient.approveBooking(userId, bookingId, approved);
 	}
 
 	@GetMapping("/{bookingId}")
-	public ResponseEntity<Object> getBooking(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-											 @PathVariable @Positive long bookingId) {
+	public Mono<ResponseEntity<Object>> getBooking(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+											       @PathVariable @Positive long bookingId,
+											       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 		log.info("Получен запрос GET /bookings/{}", bookingId);
-		return bookingClient.getBooking(userId, bookingId);
+		return bookingClient.getBooking(userId, bookingId, ifNoneMatch);
+	}
+
+	private static Integer offset(Integer from, String cursor) {
+		if (cursor == null) {
+			return from == null ? 0 : from;
+		}
+		if (from != null) {
+			throw new IllegalArgumentException("Параметры from и cursor нельзя передавать одновременно");
+		}
+		return null;
 	}
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package ru.practicum.shareit.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public class ResponseCache {
+    private final boolean enabled;
+    private final Map<CacheRegion, Region> regions = new EnumMap<>(CacheRegion.class);
+
+    public ResponseCache(ResponseCacheProperties properties) {
+        this.enabled = properties.isEnabled();
+        for (CacheRegion region : CacheRegion.values()) {
+            regions.put(region, new Region(Caffeine.newBuilder()
+                    .maximumSize(properties.getMaximumSize())
+                    .expireAfterWrite(properties.getTimeToLive())
+                    .recordStats()
+                    .build()));
+        }
+    }
+
+    public Mono<ResponseEntity<Object>> get(CacheRegion region,
+                                            Long userId,
+                                            String path,
+                                            @Nullable String ifNoneMatch,
+                                            Function<String, Mono<ResponseEntity<Object>>> request) {
+        if (!enabled) {
+            return request.apply(ifNoneMatch);
+        }
+        Region cacheRegion = regions.get(region);
+        String key = userId + " " + path;
+        return Mono.defer(() -> {
+            ResponseEntity<Object> cached = cacheRegion.cache.getIfPresent(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            long generation = cacheRegion.generation();
+            return request.apply(null).doOnNext(response -> {
+                if (response.getStatusCode() == HttpStatus.OK) {
+                    cacheRegion.put(key, response, generation);
+                }
+            });
+        });
+    }
+
+    public Mono<ResponseEntity<Object>> invalidateOn(Mono<ResponseEntity<Object>> request, CacheRegion... regions) {
+        if (!enabled) {
+            return request;
+        }
+        return request.doOnEach(signal -> {
+            if (!signal.isOnComplete()) {
+                invalidate(regions);
+            }
+        });
+    }
+
+    public void invalidate(CacheRegion... regions) {
+        for (CacheRegion region : regions) {
+            this.regions.get(region).invalidate();
+        }
+    }
+
+    Cache<String, ResponseEntity<Object>> cache(CacheRegion region) {
+        return regions.get(region).cache;
+    }
+
+    private static class Region {
+        private final Cache<String, ResponseEntity<Object>> cache;
+        private long generation;
+
+        private Region(Cache<String, ResponseEntity<Object>> cache) {
+            this.cache = cache;
+        }
+
+        private synchronized long generation() {
+            return generation;
+        }
+
+        private synchronized void put(String key, ResponseEntity<Object> response, long loadedGeneration) {
+            if (generation == loadedGeneration) {
+                cache.put(key, response);
+            }
+        }
+
+        private synchronized void invalidate() {
+            generation++;
+            cache.invalidateAll();
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package ru.practicum.shareit.client;
+
+public enum ClientMode {
+    BLOCKING,
+    REACTIVE
+}
\ No newline at end of file
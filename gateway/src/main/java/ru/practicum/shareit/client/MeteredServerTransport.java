@@ -0,0 +1,57 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+public class MeteredServerTransport implements ServerTransport {
+    private static final Pattern ID_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+    private final ServerTransport delegate;
+    private final MeterRegistry registry;
+    private final String prefix;
+
+    public MeteredServerTransport(ServerTransport delegate, MeterRegistry registry, String prefix) {
+        this.delegate = delegate;
+        this.registry = registry;
+        this.prefix = prefix;
+    }
+
+    @Override
+    public Mono<ResponseEntity<byte[]>> exchange(HttpMethod method,
+                                                 String path,
+                                                 HttpHeaders headers,
+                                                 @Nullable Map<String, Object> parameters,
+                                                 @Nullable Object body) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(registry);
+            return delegate.exchange(method, path, headers, parameters, body)
+                    .doOnSuccess(response -> stop(sample, method, path,
+                            response != null ? String.valueOf(response.getStatusCodeValue()) : "NONE"))
+                    .doOnError(e -> stop(sample, method, path, "IO_ERROR"));
+        });
+    }
+
+    private void stop(Timer.Sample sample, HttpMethod method, String path, String status) {
+        sample.stop(Timer.builder("shareit.server.requests")
+                .description("Задержка запросов шлюза к серверу")
+                .tag("method", method.name())
+                .tag("uri", uri(path))
+                .tag("status", status)
+                .publishPercentileHistogram()
+                .register(registry));
+    }
+
+    private String uri(String path) {
+        int query = path.indexOf('?');
+        String template = ID_SEGMENT.matcher(query >= 0 ? path.substring(0, query) : path).replaceAll("/{id}");
+        return prefix + template;
+    }
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+public interface ServerTransport {
+    Mono<ResponseEntity<byte[]>> exchange(HttpMethod method,
+                                          String path,
+                                          HttpHeaders headers,
+                                          @Nullable Map<String, Object> parameters,
+                                          @Nullable Object body);
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import java.net.URI;
+
+@Component
+public class ServerTransportFactory {
+    private final ClientMode mode;
+    private final RestTemplateBuilder restTemplateBuilder;
+    private final ClientHttpRequestFactory requestFactory;
+    private final WebClient.Builder webClientBuilder;
+    private final ObjectProvider<ClientHttpConnector> connector;
+    private final MeterRegistry registry;
+
+    public ServerTransportFactory(HttpClientProperties properties,
+                                  RestTemplateBuilder restTemplateBuilder,
+                                  ClientHttpRequestFactory shareItServerRequestFactory,
+                                  WebClient.Builder webClientBuilder,
+                                  ObjectProvider<ClientHttpConnector> connector,
+                                  MeterRegistry registry) {
+        this.mode = properties.getMode();
+        this.restTemplateBuilder = restTemplateBuilder;
+        this.requestFactory = shareItServerRequestFactory;
+        this.webClientBuilder = webClientBuilder;
+        this.connector = connector;
+        this.registry = registry;
+    }
+
+    public ServerTransport create(String baseUrl) {
+        return new MeteredServerTransport(createTransport(baseUrl), registry, URI.create(baseUrl).getPath());
+    }
+
+    private ServerTransport createTransport(String baseUrl) {
+        if (mode == ClientMode.REACTIVE) {
+            return new WebClientTransport(webClientBuilder.clone()
+                    .uriBuilderFactory(new DefaultUriBuilderFactory(baseUrl))
+                    .clientConnector(connector.getObject())
+                    .build());
+        }
+        return new RestTemplateTransport(restTemplateBuilder
+                .uriTemplateHandler(new DefaultUriBuilderFactory(baseUrl))
+                .requestFactory(() -> requestFactory)
+                .build());
+    }
+}
\ No newline at end of file
@@ -1,31 +1,33 @@
 package ru.practicum.shareit.item;
 
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.cache.ResponseCache;
 import ru.practicum.shareit.client.BaseClient;
+import ru.practicum.shareit.client.ServerTransportFactory;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
+import java.util.List;
 import java.util.Map;
 
+import static ru.practicum.shareit.cache.CacheRegion.ITEMS;
+import static ru.practicum.shareit.cache.CacheRegion.REQUESTS;
+
 @Service
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
+    private final ResponseCache responseCache;
 
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
-        super(
-                builder
-                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
-        );
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, ServerTransportFactory transports,
+                      ResponseCache responseCache) {
+        super(transports.create(serverUrl + API_PREFIX));
+        this.responseCache = responseCache;
     }
 
-    public ResponseEntity<Object> getItems(long userId, int from, int size) {
+    public Mono<ResponseEntity<Object>> getItems(long userId, int from, int size) {
         Map<String, Object> parameters = Map.of(
                 "from", from,
                 "size", size
@@ -34,19 +36,24 @@ public class ItemClient extends BaseClient {
         return get("?from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getItemById(long userId, long itemId) {
-        return get("/" + itemId, userId);
+    public Mono<ResponseEntity<Object>> getItemById(long userId, long itemId, String ifNoneMatch) {
+        return responseCache.get(ITEMS, userId, "/" + itemId, ifNoneMatch,
+                eTag -> conditionalGet("/" + itemId, userId, eTag));
+    }
+
+    public Mono<ResponseEntity<Object>> addItem(long userId, ItemDto itemDto) {
+        return responseCache.invalidateOn(post("", userId, itemDto), REQUESTS);
     }
 
-    public ResponseEntity<Object> addItem(long userId, ItemDto itemDto) {
-        return post("", userId, itemDto);
+    public Mono<ResponseEntity<Object>> addItems(long userId, List<ItemDto> itemDtos) {
+        return responseCache.invalidateOn(post("/batch", userId, itemDtos), REQUESTS);
     }
 
-    public ResponseEntity<Object> updateItem(long userId, long itemId, ItemDto itemDto) {
-        return patch("/" + itemId, userId, itemDto);
+    public Mono<ResponseEntity<Object>> updateItem(long userId, long itemId, ItemDto itemDto) {
+        return responseCache.invalidateOn(patch("/" + itemId, userId, itemDto), ITEMS, REQUESTS);
     }
 
-    public ResponseEntity<Object> search(long userId, String text, int from, int size) {
+    public Mono<ResponseEntity<Object>> search(long userId, String text, int from, int size) {
         Map<String, Object> parameters = Map.of(
                 "text", text,
                 "from", from,
@@ -56,7 +63,7 @@ public class ItemClient extends BaseClient {
         return get("/search?text={text}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> addComment(long userId, long itemId, CommentDto commentDto) {
-        return post("/" + itemId + "/comment", userId, commentDto);
+    public Mono<ResponseEntity<Object>> addComment(long userId, long itemId, CommentDto commentDto) {
+        return responseCache.invalidateOn(post("/" + itemId + "/comment", userId, commentDto), ITEMS);
     }
 }
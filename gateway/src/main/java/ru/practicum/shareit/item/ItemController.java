@@ -2,18 +2,24 @@ package ru.practicum.shareit.item;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.validation.ValidationOnCreate;
 import ru.practicum.shareit.validation.ValidationOnUpdate;
 
 import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
 import javax.validation.constraints.Positive;
 import javax.validation.constraints.PositiveOrZero;
+import javax.validation.constraints.Size;
+import javax.validation.groups.Default;
+import java.util.List;
 
 @Controller
 @RequestMapping(path = "/items")
@@ -22,51 +28,62 @@ import javax.validation.constraints.PositiveOrZero;
 @Slf4j
 public class ItemController {
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final int MAX_BATCH_SIZE = 1000;
     private final ItemClient itemClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAllItems(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-                                              @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                              @RequestParam(defaultValue = "10") @Positive int size) {
+    public Mono<ResponseEntity<Object>> getAllItems(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                    @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                    @RequestParam(defaultValue = "10") @Positive int size) {
         log.info("Получен запрос GET /items?from={}&size={}", from, size);
         return itemClient.getItems(userId, from, size);
     }
 
     @GetMapping("/{itemId}")
-    public ResponseEntity<Object> getItemById(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-                                              @PathVariable @Positive long itemId) {
+    public Mono<ResponseEntity<Object>> getItemById(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                    @PathVariable @Positive long itemId,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Получен запрос GET /items/{}", itemId);
-        return itemClient.getItemById(userId, itemId);
+        return itemClient.getItemById(userId, itemId, ifNoneMatch);
     }
 
     @PostMapping
-    public ResponseEntity<Object> addItem(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-                                          @Validated(ValidationOnCreate.class) @RequestBody ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> addItem(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                @Validated(ValidationOnCreate.class) @RequestBody ItemDto itemDto) {
         log.info("Получен запрос POST /items");
         return itemClient.addItem(userId, itemDto);
     }
 
+    @PostMapping("/batch")
+    @Validated({Default.class, ValidationOnCreate.class})
+    public Mono<ResponseEntity<Object>> addItems(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                 @RequestBody @NotEmpty @Size(max = MAX_BATCH_SIZE)
+                                                 List<@Valid ItemDto> itemDtos) {
+        log.info("Получен запрос POST /items/batch, количество вещей: {}", itemDtos.size());
+        return itemClient.addItems(userId, itemDtos);
+    }
+
     @PatchMapping("/{itemId}")
-    public ResponseEntity<Object> updateItem(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-                                             @PathVariable @Positive long itemId,
-                                             @Validated(ValidationOnUpdate.class) @RequestBody ItemDto itemDto) {
+    public Mono<ResponseEntity<Object>> updateItem(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                   @PathVariable @Positive long itemId,
+                                                   @Validated(ValidationOnUpdate.class) @RequestBody ItemDto itemDto) {
         log.info("Получен запрос PATCH /items/{}", itemId);
         return itemClient.updateItem(userId, itemId, itemDto);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<Object> searchItem(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-                                             @RequestParam String text,
-                                             @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                             @RequestParam(defaultValue = "10") @Positive int size) {
+    public Mono<ResponseEntity<Object>> searchItem(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                   @RequestParam String text,
+                                                   @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                   @RequestParam(defaultValue = "10") @Positive int size) {
         log.info("Получен запрос GET /items/search?text={}&from={}&size={}", text, from, size);
         return itemClient.search(userId, text, from, size);
     }
 
     @PostMapping("/{itemId}/comment")
-    public ResponseEntity<Object> addComment(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-                                             @PathVariable @Positive long itemId,
-                                             @Valid @RequestBody CommentDto commentDto) {
+    public Mono<ResponseEntity<Object>> addComment(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                   @PathVariable @Positive long itemId,
+                                                   @Valid @RequestBody CommentDto commentDto) {
         log.info("Получен запрос POST /items/{}/comment", itemId);
         return itemClient.addComment(userId, itemId, commentDto);
     }
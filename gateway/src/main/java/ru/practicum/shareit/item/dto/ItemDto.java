@@ -13,6 +13,7 @@ import javax.validation.constraints.Size;
 @AllArgsConstructor
 public class ItemDto {
     @NotBlank(groups = ValidationOnCreate.class)
+    @Size(max = 255, groups = {ValidationOnCreate.class, ValidationOnUpdate.class})
     private String name;
     @NotBlank(groups = ValidationOnCreate.class)
     @Size(max = 512, groups = {ValidationOnCreate.class, ValidationOnUpdate.class})
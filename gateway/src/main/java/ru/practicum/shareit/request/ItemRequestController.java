@@ -2,9 +2,11 @@ package ru.practicum.shareit.request;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import javax.validation.Valid;
@@ -21,30 +23,37 @@ public class ItemRequestController {
     private final ItemRequestClient itemRequestClient;
 
     @PostMapping
-    public ResponseEntity<Object> addRequest(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-                                             @Valid @RequestBody ItemRequestDto itemRequestDto) {
+    public Mono<ResponseEntity<Object>> addRequest(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                   @Valid @RequestBody ItemRequestDto itemRequestDto) {
         log.info("Получен запрос POST /requests");
         return itemRequestClient.addRequest(userId, itemRequestDto);
     }
 
     @GetMapping
-    public ResponseEntity<Object> getRequests(@RequestHeader(USER_ID_HEADER) @Positive long userId) {
-        log.info("Получен запрос GET /requests");
-        return itemRequestClient.getRequests(userId);
+    public Mono<ResponseEntity<Object>> getRequests(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                    @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                    @RequestParam(required = false) @Positive Integer size) {
+        if (size == null) {
+            log.info("Получен запрос GET /requests");
+            return itemRequestClient.getRequests(userId);
+        }
+        log.info("Получен запрос GET /requests?from={}&size={}", from, size);
+        return itemRequestClient.getRequests(userId, from, size);
     }
 
     @GetMapping("/all")
-    public ResponseEntity<Object> getAllRequests(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-                                               @RequestParam(defaultValue = "0") @PositiveOrZero int from,
-                                               @RequestParam(defaultValue = "10") @Positive int size) {
+    public Mono<ResponseEntity<Object>> getAllRequests(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                     @RequestParam(defaultValue = "0") @PositiveOrZero int from,
+                                                     @RequestParam(defaultValue = "10") @Positive int size) {
         log.info("Получен запрос GET /requests/all?from={}&size={}", from, size);
         return itemRequestClient.getAllRequests(userId, from, size);
     }
 
     @GetMapping("/{requestId}")
-    public ResponseEntity<Object> getRequestById(@RequestHeader(USER_ID_HEADER) @Positive long userId,
-                                         @PathVariable @Positive long requestId) {
+    public Mono<ResponseEntity<Object>> getRequestById(@RequestHeader(USER_ID_HEADER) @Positive long userId,
+                                                       @PathVariable @Positive long requestId,
+                                                       @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Получен запрос GET /requests/{}", requestId);
-        return itemRequestClient.getRequestById(userId, requestId);
+        return itemRequestClient.getRequestById(userId, requestId, ifNoneMatch);
     }
 }
\ No newline at end of file
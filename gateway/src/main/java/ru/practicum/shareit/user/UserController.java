@@ -2,10 +2,12 @@ package ru.practicum.shareit.user;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Controller;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.validation.ValidationOnCreate;
 import ru.practicum.shareit.validation.ValidationOnUpdate;
@@ -20,32 +22,33 @@ public class UserController {
     private final UserClient userClient;
 
     @GetMapping
-    public ResponseEntity<Object> getAllUsers() {
+    public Mono<ResponseEntity<Object>> getAllUsers() {
         log.info("Получен запрос GET /users");
         return userClient.getUsers();
     }
 
     @GetMapping("/{userId}")
-    public ResponseEntity<Object> getUserById(@PathVariable @Positive long userId) {
+    public Mono<ResponseEntity<Object>> getUserById(@PathVariable @Positive long userId,
+                                                    @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Получен запрос GET /users/{}", userId);
-        return userClient.getUserById(userId);
+        return userClient.getUserById(userId, ifNoneMatch);
     }
 
     @PostMapping
-    public ResponseEntity<Object> createUser(@Validated(ValidationOnCreate.class) @RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> createUser(@Validated(ValidationOnCreate.class) @RequestBody UserDto userDto) {
         log.info("Получен запрос POST /users");
         return userClient.createUser(userDto);
     }
 
     @PatchMapping("/{userId}")
-    public ResponseEntity<Object> updateUser(@PathVariable long userId,
-                                             @Validated(ValidationOnUpdate.class) @RequestBody UserDto userDto) {
+    public Mono<ResponseEntity<Object>> updateUser(@PathVariable long userId,
+                                                   @Validated(ValidationOnUpdate.class) @RequestBody UserDto userDto) {
         log.info("Получен запрос PATCH /users/{}", userId);
         return userClient.updateUser(userId, userDto);
     }
 
     @DeleteMapping("{userId}")
-    public ResponseEntity<Object> deleteUser(@PathVariable @Positive long userId) {
+    public Mono<ResponseEntity<Object>> deleteUser(@PathVariable @Positive long userId) {
         log.info("Получен запрос DELETE /users/{}", userId);
         return userClient.deleteUser(userId);
     }
@@ -11,8 +11,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.booking.dto.BookingState;
 
@@ -23,6 +25,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = BookingController.class)
@@ -48,12 +51,14 @@ class BookingControllerTest {
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         headers.set("X-Sharer-User-Id", "1");
         ResponseEntity<Object> response = new ResponseEntity<>(booking, headers, HttpStatus.OK);
-        when(bookingClient.addBooking(1, booking)).thenReturn(response);
+        when(bookingClient.addBooking(1, booking)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(post(BOOKINGS_PATH)
+        MvcResult mvcResult = mvc.perform(post(BOOKINGS_PATH)
                         .header("X-Sharer-User-Id", 1)
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(booking)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(booking), result);
@@ -237,7 +242,7 @@ class BookingControllerTest {
                         .header("X-Sharer-User-Id", 1))
                 .andExpect(status().isOk());
 
-        verify(bookingClient).getBooking(1, 1);
+        verify(bookingClient).getBooking(1, 1, null);
     }
 
     @Test
@@ -245,7 +250,7 @@ class BookingControllerTest {
     void getBooking_withoutUserId_shouldReturnBadRequest() {
         mvc.perform(get(BOOKINGS_PATH + "/1")).andExpect(status().isBadRequest());
 
-        verify(bookingClient, never()).getBooking(anyLong(), anyLong());
+        verify(bookingClient, never()).getBooking(anyLong(), anyLong(), any());
     }
 
     @Test
@@ -261,7 +266,7 @@ class BookingControllerTest {
                         .params(parameters))
                 .andExpect(status().isOk());
 
-        verify(bookingClient).getUserBookings(1, BookingState.CURRENT, 1, 5);
+        verify(bookingClient).getUserBookings(1, BookingState.CURRENT, 1, 5, null);
     }
 
     @Test
@@ -271,7 +276,7 @@ class BookingControllerTest {
                         .header("X-Sharer-User-Id", 1))
                 .andExpect(status().isOk());
 
-        verify(bookingClient).getUserBookings(1, BookingState.ALL, 0, 10);
+        verify(bookingClient).getUserBookings(1, BookingState.ALL, 0, 10, null);
     }
 
     @Test
@@ -279,7 +284,7 @@ class BookingControllerTest {
     void getUserBookings_withoutUserId_shouldReturnBadRequest() {
         mvc.perform(get(BOOKINGS_PATH)).andExpect(status().isBadRequest());
 
-        verify(bookingClient, never()).getUserBookings(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getUserBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -295,7 +300,7 @@ class BookingControllerTest {
                         .params(parameters))
                 .andExpect(status().isBadRequest());
 
-        verify(bookingClient, never()).getUserBookings(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getUserBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -311,7 +316,7 @@ class BookingControllerTest {
                         .params(parameters))
                 .andExpect(status().isBadRequest());
 
-        verify(bookingClient, never()).getUserBookings(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getUserBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -327,7 +332,7 @@ class BookingControllerTest {
                         .params(parameters))
                 .andExpect(status().isBadRequest());
 
-        verify(bookingClient, never()).getUserBookings(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getUserBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -343,7 +348,32 @@ class BookingControllerTest {
                         .params(parameters))
                 .andExpect(status().isOk());
 
-        verify(bookingClient).getUserItemsBookings(1, BookingState.CURRENT, 1, 5);
+        verify(bookingClient).getUserItemsBookings(1, BookingState.CURRENT, 1, 5, null);
+    }
+
+    @Test
+    @SneakyThrows
+    void getUserItemsBookings_withCursor_shouldPassCursorToClient() {
+        mvc.perform(get(BOOKINGS_PATH + "/owner")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("size", "5")
+                        .param("cursor", "MjAzMC0wMS0wMVQxMjowMHw1"))
+                .andExpect(status().isOk());
+
+        verify(bookingClient).getUserItemsBookings(1, BookingState.ALL, null, 5, "MjAzMC0wMS0wMVQxMjowMHw1");
+    }
+
+    @Test
+    @SneakyThrows
+    void getUserItemsBookings_withFromAndCursor_shouldReturnBadRequest() {
+        mvc.perform(get(BOOKINGS_PATH + "/owner")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("from", "0")
+                        .param("size", "5")
+                        .param("cursor", "MjAzMC0wMS0wMVQxMjowMHw1"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bookingClient);
     }
 
     @Test
@@ -353,7 +383,7 @@ class BookingControllerTest {
                         .header("X-Sharer-User-Id", 1))
                 .andExpect(status().isOk());
 
-        verify(bookingClient).getUserItemsBookings(1, BookingState.ALL, 0, 10);
+        verify(bookingClient).getUserItemsBookings(1, BookingState.ALL, 0, 10, null);
     }
 
     @Test
@@ -361,7 +391,7 @@ class BookingControllerTest {
     void getUserItemsBookings_withoutUserId_shouldReturnBadRequest() {
         mvc.perform(get(BOOKINGS_PATH + "/owner")).andExpect(status().isBadRequest());
 
-        verify(bookingClient, never()).getUserItemsBookings(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getUserItemsBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -377,7 +407,7 @@ class BookingControllerTest {
                         .params(parameters))
                 .andExpect(status().isBadRequest());
 
-        verify(bookingClient, never()).getUserItemsBookings(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getUserItemsBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -393,7 +423,7 @@ class BookingControllerTest {
                         .params(parameters))
                 .andExpect(status().isBadRequest());
 
-        verify(bookingClient, never()).getUserItemsBookings(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getUserItemsBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), any());
     }
 
     @Test
@@ -409,6 +439,6 @@ class BookingControllerTest {
                         .params(parameters))
                 .andExpect(status().isBadRequest());
 
-        verify(bookingClient, never()).getUserItemsBookings(anyLong(), any(BookingState.class), anyInt(), anyInt());
+        verify(bookingClient, never()).getUserItemsBookings(anyLong(), any(BookingState.class), anyInt(), anyInt(), any());
     }
 }
\ No newline at end of file
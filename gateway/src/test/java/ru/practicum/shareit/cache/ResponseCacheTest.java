@@ -0,0 +1,106 @@
+package ru.practicum.shareit.cache;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class ResponseCacheTest {
+    private final ResponseCache responseCache = new ResponseCache(new ResponseCacheProperties());
+    private final AtomicInteger requests = new AtomicInteger();
+    private final AtomicReference<String> sentETag = new AtomicReference<>();
+
+    @Test
+    void get_withRepeatedRequest_shouldReturnCachedResponse() {
+        ResponseEntity<Object> first = responseCache.get(CacheRegion.ITEMS, 1L, "/1", null, request(HttpStatus.OK)).block();
+        ResponseEntity<Object> second = responseCache.get(CacheRegion.ITEMS, 1L, "/1", null, request(HttpStatus.OK)).block();
+
+        assertSame(first, second);
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void get_withDifferentUser_shouldNotReturnCachedResponse() {
+        responseCache.get(CacheRegion.ITEMS, 1L, "/1", null, request(HttpStatus.OK)).block();
+        responseCache.get(CacheRegion.ITEMS, 2L, "/1", null, request(HttpStatus.OK)).block();
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void get_withErrorResponse_shouldNotCacheResponse() {
+        responseCache.get(CacheRegion.USERS, null, "/1", null, request(HttpStatus.NOT_FOUND)).block();
+        responseCache.get(CacheRegion.USERS, null, "/1", null, request(HttpStatus.NOT_FOUND)).block();
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void invalidateOn_withWrite_shouldEvictRegion() {
+        responseCache.get(CacheRegion.ITEMS, 1L, "/1", null, request(HttpStatus.OK)).block();
+        responseCache.get(CacheRegion.USERS, null, "/1", null, request(HttpStatus.OK)).block();
+
+        responseCache.invalidateOn(Mono.just(ResponseEntity.ok().build()), CacheRegion.ITEMS).block();
+        responseCache.get(CacheRegion.ITEMS, 1L, "/1", null, request(HttpStatus.OK)).block();
+        responseCache.get(CacheRegion.USERS, null, "/1", null, request(HttpStatus.OK)).block();
+
+        assertEquals(3, requests.get());
+    }
+
+    @Test
+    void get_withResponseLoadedBeforeInvalidation_shouldNotCacheResponse() {
+        Mono<ResponseEntity<Object>> staleRequest = request(HttpStatus.OK).apply(null)
+                .doOnNext(response -> responseCache.invalidate(CacheRegion.ITEMS));
+
+        responseCache.get(CacheRegion.ITEMS, 1L, "/1", null, eTag -> staleRequest).block();
+        responseCache.get(CacheRegion.ITEMS, 1L, "/1", null, request(HttpStatus.OK)).block();
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void get_withDisabledCache_shouldAlwaysSendRequest() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(false);
+        ResponseCache disabledCache = new ResponseCache(properties);
+
+        disabledCache.get(CacheRegion.ITEMS, 1L, "/1", null, request(HttpStatus.OK)).block();
+        disabledCache.get(CacheRegion.ITEMS, 1L, "/1", null, request(HttpStatus.OK)).block();
+
+        assertEquals(2, requests.get());
+    }
+
+    @Test
+    void get_withIfNoneMatch_shouldSendUnconditionalRequest() {
+        responseCache.get(CacheRegion.ITEMS, 1L, "/1", "\"etag\"", request(HttpStatus.OK)).block();
+
+        assertNull(sentETag.get());
+    }
+
+    @Test
+    void get_withDisabledCacheAndIfNoneMatch_shouldForwardETag() {
+        ResponseCacheProperties properties = new ResponseCacheProperties();
+        properties.setEnabled(false);
+        ResponseCache disabledCache = new ResponseCache(properties);
+
+        disabledCache.get(CacheRegion.ITEMS, 1L, "/1", "\"etag\"", request(HttpStatus.NOT_MODIFIED)).block();
+
+        assertEquals("\"etag\"", sentETag.get());
+    }
+
+    private Function<String, Mono<ResponseEntity<Object>>> request(HttpStatus status) {
+        return eTag -> Mono.fromCallable(() -> {
+            requests.incrementAndGet();
+            sentETag.set(eTag);
+            return ResponseEntity.status(status).body(new byte[0]);
+        });
+    }
+}
@@ -0,0 +1,64 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BaseClientTest {
+    private static final byte[] BODY = "[{\"id\":1,\"name\":\"Дрель\"}]".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void get_withSuccessfulResponse_shouldPassBodyBytesAndEndToEndHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set(HttpHeaders.TRANSFER_ENCODING, "chunked");
+        headers.set(HttpHeaders.CONNECTION, "keep-alive");
+        headers.set("X-Next-Cursor", "abc");
+        BaseClient client = new BaseClient((method, path, requestHeaders, parameters, body) ->
+                Mono.just(new ResponseEntity<>(BODY, headers, HttpStatus.OK)));
+
+        ResponseEntity<Object> response = client.get("/items", 1).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertSame(BODY, response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+        assertEquals("abc", response.getHeaders().getFirst("X-Next-Cursor"));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.TRANSFER_ENCODING));
+        assertFalse(response.getHeaders().containsKey(HttpHeaders.CONNECTION));
+    }
+
+    @Test
+    void get_withErrorResponse_shouldPassStatusAndBody() {
+        BaseClient client = new BaseClient((method, path, requestHeaders, parameters, body) ->
+                Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(BODY)));
+
+        ResponseEntity<Object> response = client.get("/items/99", 1).block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.NOT_FOUND, response.getStatusCode());
+        assertSame(BODY, response.getBody());
+        assertEquals(MediaType.APPLICATION_JSON, response.getHeaders().getContentType());
+    }
+
+    @Test
+    void delete_withEmptyResponse_shouldReturnNoBody() {
+        BaseClient client = new BaseClient((method, path, requestHeaders, parameters, body) ->
+                Mono.just(ResponseEntity.ok().build()));
+
+        ResponseEntity<Object> response = client.delete("/users/1").block();
+
+        assertNotNull(response);
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertFalse(response.hasBody());
+    }
+}
@@ -0,0 +1,60 @@
+package ru.practicum.shareit.client;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredServerTransportTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+    @Test
+    void exchange_withIdInPath_shouldRecordTimerWithTemplatedUri() {
+        MeteredServerTransport transport = new MeteredServerTransport((method, path, headers, parameters, body) ->
+                Mono.just(ResponseEntity.status(HttpStatus.NOT_FOUND).build()), registry, "/items");
+
+        transport.exchange(HttpMethod.GET, "/42", new HttpHeaders(), null, null).block();
+        transport.exchange(HttpMethod.GET, "/7", new HttpHeaders(), null, null).block();
+
+        Timer timer = registry.get("shareit.server.requests")
+                .tag("method", "GET")
+                .tag("uri", "/items/{id}")
+                .tag("status", "404")
+                .timer();
+        assertEquals(2, timer.count());
+    }
+
+    @Test
+    void exchange_withQueryAndNestedPath_shouldDropQueryFromUri() {
+        MeteredServerTransport transport = new MeteredServerTransport((method, path, headers, parameters, body) ->
+                Mono.just(ResponseEntity.ok().build()), registry, "/items");
+
+        transport.exchange(HttpMethod.POST, "/42/comment", new HttpHeaders(), null, null).block();
+        transport.exchange(HttpMethod.GET, "/search?text={text}&from={from}&size={size}", new HttpHeaders(),
+                null, null).block();
+
+        assertEquals(1, registry.get("shareit.server.requests").tag("uri", "/items/{id}/comment").timer().count());
+        assertEquals(1, registry.get("shareit.server.requests").tag("uri", "/items/search").timer().count());
+    }
+
+    @Test
+    void exchange_withTransportError_shouldRecordIoErrorStatus() {
+        MeteredServerTransport transport = new MeteredServerTransport((method, path, headers, parameters, body) ->
+                Mono.error(new IllegalStateException("Соединение сброшено")), registry, "/users");
+
+        assertThrows(IllegalStateException.class,
+                () -> transport.exchange(HttpMethod.GET, "", new HttpHeaders(), null, null).block());
+
+        assertEquals(1, registry.get("shareit.server.requests")
+                .tag("uri", "/users")
+                .tag("status", "IO_ERROR")
+                .timer()
+                .count());
+    }
+}
@@ -11,8 +11,10 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 
@@ -22,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemController.class)
@@ -93,7 +96,7 @@ class ItemControllerTest {
         mvc.perform(get(ITEMS_PATH + "/1").header("X-Sharer-User-Id", 1))
                 .andExpect(status().isOk());
 
-        verify(itemClient).getItemById(1, 1);
+        verify(itemClient).getItemById(1, 1, null);
     }
 
     @Test
@@ -101,7 +104,7 @@ class ItemControllerTest {
     void getItemById_withoutUserId_shouldReturnBadRequest() {
         mvc.perform(get(ITEMS_PATH + "/1")).andExpect(status().isBadRequest());
 
-        verify(itemClient, never()).getItemById(anyLong(), anyLong());
+        verify(itemClient, never()).getItemById(anyLong(), anyLong(), any());
     }
 
     @Test
@@ -113,17 +116,86 @@ class ItemControllerTest {
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         headers.set("X-Sharer-User-Id", "1");
         ResponseEntity<Object> response = new ResponseEntity<>(item, headers, HttpStatus.OK);
-        when(itemClient.addItem(1, item)).thenReturn(response);
+        when(itemClient.addItem(1, item)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(post(ITEMS_PATH)
+        MvcResult mvcResult = mvc.perform(post(ITEMS_PATH)
                         .header("X-Sharer-User-Id", 1)
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(item)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(item), result);
     }
 
+    @Test
+    @SneakyThrows
+    void addItems_withUserIdAndValidDtos_shouldReturnOk() {
+        List<ItemDto> items = List.of(
+                new ItemDto("item1", "first test item description", true, null),
+                new ItemDto("item2", "second test item description", false, null)
+        );
+        ResponseEntity<Object> response = new ResponseEntity<>(items, HttpStatus.OK);
+        when(itemClient.addItems(1, items)).thenReturn(Mono.just(response));
+
+        MvcResult mvcResult = mvc.perform(post(ITEMS_PATH + "/batch")
+                        .header("X-Sharer-User-Id", 1)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        assertEquals(objectMapper.writeValueAsString(items), result);
+    }
+
+    @Test
+    @SneakyThrows
+    void addItems_withInvalidDto_shouldReturnBadRequest() {
+        List<ItemDto> items = List.of(
+                new ItemDto("item1", "first test item description", true, null),
+                new ItemDto(null, "second test item description", true, null)
+        );
+
+        mvc.perform(post(ITEMS_PATH + "/batch")
+                        .header("X-Sharer-User-Id", 1)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isBadRequest());
+
+        verify(itemClient, never()).addItems(anyLong(), anyList());
+    }
+
+    @Test
+    @SneakyThrows
+    void addItems_withTooLongName_shouldReturnBadRequest() {
+        List<ItemDto> items = List.of(
+                new ItemDto("item1", "first test item description", true, null),
+                new ItemDto("i".repeat(256), "second test item description", true, null)
+        );
+
+        mvc.perform(post(ITEMS_PATH + "/batch")
+                        .header("X-Sharer-User-Id", 1)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isBadRequest());
+
+        verify(itemClient, never()).addItems(anyLong(), anyList());
+    }
+
+    @Test
+    @SneakyThrows
+    void addItems_withEmptyList_shouldReturnBadRequest() {
+        mvc.perform(post(ITEMS_PATH + "/batch")
+                        .header("X-Sharer-User-Id", 1)
+                        .contentType(APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemClient, never()).addItems(anyLong(), anyList());
+    }
+
     @Test
     @SneakyThrows
     void addItem_withoutUserId_shouldReturnBadRequest() {
@@ -210,12 +282,14 @@ class ItemControllerTest {
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         headers.set("X-Sharer-User-Id", "1");
         ResponseEntity<Object> response = new ResponseEntity<>(itemForUpdate, headers, HttpStatus.OK);
-        when(itemClient.updateItem(1, 1, itemForUpdate)).thenReturn(response);
+        when(itemClient.updateItem(1, 1, itemForUpdate)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(patch(ITEMS_PATH + "/1")
+        MvcResult mvcResult = mvc.perform(patch(ITEMS_PATH + "/1")
                         .header("X-Sharer-User-Id", 1)
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(itemForUpdate)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(itemForUpdate), result);
@@ -248,12 +322,14 @@ class ItemControllerTest {
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         headers.set("X-Sharer-User-Id", "1");
         ResponseEntity<Object> response = new ResponseEntity<>(itemAfterUpdate, headers, HttpStatus.OK);
-        when(itemClient.updateItem(1, 1, itemForUpdate)).thenReturn(response);
+        when(itemClient.updateItem(1, 1, itemForUpdate)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(patch(ITEMS_PATH + "/1")
+        MvcResult mvcResult = mvc.perform(patch(ITEMS_PATH + "/1")
                         .header("X-Sharer-User-Id", 1)
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(itemForUpdate)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(itemAfterUpdate), result);
@@ -273,12 +349,14 @@ class ItemControllerTest {
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         headers.set("X-Sharer-User-Id", "1");
         ResponseEntity<Object> response = new ResponseEntity<>(itemAfterUpdate, headers, HttpStatus.OK);
-        when(itemClient.updateItem(1, 1, itemForUpdate)).thenReturn(response);
+        when(itemClient.updateItem(1, 1, itemForUpdate)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(patch(ITEMS_PATH + "/1")
+        MvcResult mvcResult = mvc.perform(patch(ITEMS_PATH + "/1")
                         .header("X-Sharer-User-Id", 1)
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(itemForUpdate)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(itemAfterUpdate), result);
@@ -320,12 +398,14 @@ class ItemControllerTest {
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         headers.set("X-Sharer-User-Id", "1");
         ResponseEntity<Object> response = new ResponseEntity<>(itemAfterUpdate, headers, HttpStatus.OK);
-        when(itemClient.updateItem(1, 1, itemForUpdate)).thenReturn(response);
+        when(itemClient.updateItem(1, 1, itemForUpdate)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(patch(ITEMS_PATH + "/1")
+        MvcResult mvcResult = mvc.perform(patch(ITEMS_PATH + "/1")
                         .header("X-Sharer-User-Id", 1)
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(itemForUpdate)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(itemAfterUpdate), result);
@@ -417,12 +497,14 @@ class ItemControllerTest {
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         headers.set("X-Sharer-User-Id", "1");
         ResponseEntity<Object> response = new ResponseEntity<>(comment, headers, HttpStatus.OK);
-        when(itemClient.addComment(1, 1, comment)).thenReturn(response);
+        when(itemClient.addComment(1, 1, comment)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(post(ITEMS_PATH + "/1/comment")
+        MvcResult mvcResult = mvc.perform(post(ITEMS_PATH + "/1/comment")
                         .header("X-Sharer-User-Id", 1)
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(comment)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(comment), result);
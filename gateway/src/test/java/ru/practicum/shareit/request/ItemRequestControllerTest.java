@@ -9,13 +9,17 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = ItemRequestController.class)
@@ -33,12 +37,14 @@ class ItemRequestControllerTest {
     void addRequest_withUserIdAndValidDto_shouldReturnOk() {
         ItemRequestDto itemRequest = new ItemRequestDto("test request");
         ResponseEntity<Object> response = new ResponseEntity<>(itemRequest, HttpStatus.OK);
-        when(itemRequestClient.addRequest(1, itemRequest)).thenReturn(response);
+        when(itemRequestClient.addRequest(1, itemRequest)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(post(REQUESTS_PATH)
+        MvcResult mvcResult = mvc.perform(post(REQUESTS_PATH)
                         .header("X-Sharer-User-Id", 1)
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(itemRequest)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(itemRequest), result);
@@ -103,6 +109,28 @@ class ItemRequestControllerTest {
         verify(itemRequestClient).getRequests(1);
     }
 
+    @Test
+    @SneakyThrows
+    void getRequests_withUserIdAndSize_shouldReturnOk() {
+        mvc.perform(get(REQUESTS_PATH)
+                        .header("X-Sharer-User-Id", 1)
+                        .param("size", "5"))
+                .andExpect(status().isOk());
+
+        verify(itemRequestClient).getRequests(1, 0, 5);
+    }
+
+    @Test
+    @SneakyThrows
+    void getRequests_withInvalidSizeParam_shouldReturnBadRequest() {
+        mvc.perform(get(REQUESTS_PATH)
+                        .header("X-Sharer-User-Id", 1)
+                        .param("size", "0"))
+                .andExpect(status().isBadRequest());
+
+        verify(itemRequestClient, never()).getRequests(anyLong(), anyInt(), anyInt());
+    }
+
     @Test
     @SneakyThrows
     void getRequests_withoutUserId_shouldReturnBadRequest() {
@@ -171,7 +199,7 @@ class ItemRequestControllerTest {
         mvc.perform(get(REQUESTS_PATH + "/1").header("X-Sharer-User-Id", 1))
                 .andExpect(status().isOk());
 
-        verify(itemRequestClient).getRequestById(1, 1);
+        verify(itemRequestClient).getRequestById(1, 1, null);
     }
 
     @Test
@@ -179,6 +207,6 @@ class ItemRequestControllerTest {
     void getRequestById_withoutUserId_shouldReturnBadRequest() {
         mvc.perform(get(REQUESTS_PATH + "/1")).andExpect(status().isBadRequest());
 
-        verify(itemRequestClient, never()).getRequestById(anyLong(), anyLong());
+        verify(itemRequestClient, never()).getRequestById(anyLong(), anyLong(), any());
     }
 }
\ No newline at end of file
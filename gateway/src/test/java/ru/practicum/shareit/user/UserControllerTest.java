@@ -6,15 +6,19 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = UserController.class)
@@ -40,7 +44,28 @@ class UserControllerTest {
     void getUserById_shouldReturnOk() {
         mvc.perform(get(USERS_PATH + "/1")).andExpect(status().isOk());
 
-        verify(userClient).getUserById(anyLong());
+        verify(userClient).getUserById(anyLong(), isNull());
+    }
+
+    @Test
+    @SneakyThrows
+    void getUserById_withIfNoneMatch_shouldForwardHeader() {
+        mvc.perform(get(USERS_PATH + "/1").header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+                .andExpect(status().isOk());
+
+        verify(userClient).getUserById(1, "\"etag\"");
+    }
+
+    @Test
+    @SneakyThrows
+    void getUserById_withMatchingETag_shouldReturnNotModified() {
+        ResponseEntity<Object> response = ResponseEntity.ok().eTag("\"etag\"").body(new byte[0]);
+        when(userClient.getUserById(1, "\"etag\"")).thenReturn(Mono.just(response));
+
+        MvcResult mvcResult = mvc.perform(get(USERS_PATH + "/1").header(HttpHeaders.IF_NONE_MATCH, "\"etag\""))
+                .andExpect(request().asyncStarted()).andReturn();
+        mvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isNotModified());
     }
 
     @Test
@@ -48,9 +73,11 @@ class UserControllerTest {
     void createUser_shouldReturnOkAndUser() {
         UserDto user = new UserDto("user1", "user1@test.com");
         ResponseEntity<Object> response = new ResponseEntity<>(user, HttpStatus.OK);
-        when(userClient.createUser(user)).thenReturn(response);
+        when(userClient.createUser(user)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(post(USERS_PATH).contentType(APPLICATION_JSON).content(objectMapper.writeValueAsString(user)))
+        MvcResult mvcResult = mvc.perform(post(USERS_PATH).contentType(APPLICATION_JSON).content(objectMapper.writeValueAsString(user)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(user), result);
@@ -83,11 +110,13 @@ class UserControllerTest {
     void updateUser_shouldReturnOk() {
         UserDto userForUpdate = new UserDto("updatedUser", "update@test.com");
         ResponseEntity<Object> response = new ResponseEntity<>(userForUpdate, HttpStatus.OK);
-        when(userClient.updateUser(1L, userForUpdate)).thenReturn(response);
+        when(userClient.updateUser(1L, userForUpdate)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(patch(USERS_PATH + "/1")
+        MvcResult mvcResult = mvc.perform(patch(USERS_PATH + "/1")
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(userForUpdate)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(userForUpdate), result);
@@ -112,11 +141,13 @@ class UserControllerTest {
         UserDto userForUpdate = new UserDto("updatedUser", null);
         UserDto userAfterUpdate = new UserDto("updatedUser", "user1@test.com");
         ResponseEntity<Object> response = new ResponseEntity<>(userAfterUpdate, HttpStatus.OK);
-        when(userClient.updateUser(1L, userForUpdate)).thenReturn(response);
+        when(userClient.updateUser(1L, userForUpdate)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(patch(USERS_PATH + "/1")
+        MvcResult mvcResult = mvc.perform(patch(USERS_PATH + "/1")
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(userForUpdate)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(userAfterUpdate), result);
@@ -128,11 +159,13 @@ class UserControllerTest {
         UserDto userForUpdate = new UserDto(null, "updated@test.com");
         UserDto userAfterUpdate = new UserDto("user1", "updated@test.com");
         ResponseEntity<Object> response = new ResponseEntity<>(userAfterUpdate, HttpStatus.OK);
-        when(userClient.updateUser(1L, userForUpdate)).thenReturn(response);
+        when(userClient.updateUser(1L, userForUpdate)).thenReturn(Mono.just(response));
 
-        String result = mvc.perform(patch(USERS_PATH + "/1")
+        MvcResult mvcResult = mvc.perform(patch(USERS_PATH + "/1")
                         .contentType(APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(userForUpdate)))
+                .andExpect(request().asyncStarted()).andReturn();
+        String result = mvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
 
         assertEquals(objectMapper.writeValueAsString(userAfterUpdate), result);
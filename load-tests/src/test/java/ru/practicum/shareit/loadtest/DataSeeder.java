@@ -0,0 +1,56 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+@RequiredArgsConstructor
+class DataSeeder {
+    private static final long CHUNK_SIZE = 50_000;
+
+    private final LoadTestSettings settings;
+
+    void seed(Connection connection) throws SQLException {
+        long users = settings.getUsers();
+        long items = settings.getItems();
+        long bookings = settings.getBookings();
+        long rounds = Math.max(1, bookings / items);
+        try (Statement statement = connection.createStatement()) {
+            insert(statement, users, "INSERT INTO users (id, name, email) "
+                    + "SELECT X, 'user' || X, 'user' || X || '@load.test' FROM SYSTEM_RANGE(%d, %d)");
+            insert(statement, users, "INSERT INTO requests (id, description, requester_id, created) "
+                    + "SELECT X, 'Нужна вещь ' || X, MOD(X, " + users + ") + 1, "
+                    + "DATEADD('MINUTE', -X, LOCALTIMESTAMP) FROM SYSTEM_RANGE(%d, %d)");
+            insert(statement, items, "INSERT INTO items (id, name, description, owner_id, available, request_id) "
+                    + "SELECT X, 'Вещь ' || X, 'Описание вещи ' || X, MOD(X, " + users + ") + 1, MOD(X, 10) <> 0, "
+                    + "CASEWHEN(MOD(X, 5) = 0, MOD(X, " + users + ") + 1, NULL) FROM SYSTEM_RANGE(%d, %d)");
+            insert(statement, bookings, "INSERT INTO bookings "
+                    + "(id, start_time, end_time, item_id, item_owner_id, booker_id, status) "
+                    + "SELECT X, "
+                    + "DATEADD('DAY', X / " + items + " - " + rounds / 2 + ", LOCALTIMESTAMP), "
+                    + "DATEADD('HOUR', 1, DATEADD('DAY', X / " + items + " - " + rounds / 2 + ", LOCALTIMESTAMP)), "
+                    + "MOD(X, " + items + ") + 1, "
+                    + "MOD(MOD(X, " + items + ") + 1, " + users + ") + 1, "
+                    + "MOD(MOD(MOD(X, " + items + ") + 1, " + users + ") + 1 + MOD(X / " + items + ", "
+                    + (users - 1) + "), " + users + ") + 1, "
+                    + "CASE MOD(X, 10) WHEN 0 THEN 'WAITING' WHEN 1 THEN 'REJECTED' ELSE 'APPROVED' END "
+                    + "FROM SYSTEM_RANGE(%d, %d)");
+            insert(statement, items, "INSERT INTO comments (id, text, item_id, author_id, created_time) "
+                    + "SELECT X, 'Отзыв ' || X, X, MOD(X + 1, " + users + ") + 1, DATEADD('MINUTE', -X, LOCALTIMESTAMP) "
+                    + "FROM SYSTEM_RANGE(%d, %d)");
+            for (String table : new String[]{"users", "requests", "items", "bookings", "comments"}) {
+                statement.execute("ALTER SEQUENCE " + table + "_seq RESTART WITH "
+                        + "(SELECT COALESCE(MAX(id), 0) + 1 FROM " + table + ")");
+            }
+            statement.execute("ANALYZE");
+        }
+    }
+
+    private void insert(Statement statement, long count, String sql) throws SQLException {
+        for (long from = 1; from <= count; from += CHUNK_SIZE) {
+            statement.executeUpdate(String.format(sql, from, Math.min(from + CHUNK_SIZE - 1, count)));
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Value;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.BiFunction;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class Endpoint {
+    @Getter
+    private final String name;
+    private final String method;
+    private final BiFunction<ThreadLocalRandom, LoadTestSettings, Call> call;
+
+    static Endpoint of(String name, BiFunction<ThreadLocalRandom, LoadTestSettings, String> path) {
+        return new Endpoint(name, "GET", (random, settings) ->
+                Call.of(random.nextLong(settings.getUsers()) + 1, path.apply(random, settings), null));
+    }
+
+    static Endpoint write(String name, String method, BiFunction<ThreadLocalRandom, LoadTestSettings, Call> call) {
+        return new Endpoint(name, method, call);
+    }
+
+    HttpRequest request(String baseUrl, LoadTestSettings settings) {
+        Call request = call.apply(ThreadLocalRandom.current(), settings);
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + request.getPath()))
+                .header("X-Sharer-User-Id", String.valueOf(request.getUserId()))
+                .timeout(Duration.ofSeconds(30));
+        if (request.getBody() == null) {
+            return builder.method(method, HttpRequest.BodyPublishers.noBody()).build();
+        }
+        return builder.header("Content-Type", "application/json")
+                .method(method, HttpRequest.BodyPublishers.ofString(request.getBody()))
+                .build();
+    }
+
+    @Value(staticConstructor = "of")
+    static class Call {
+        long userId;
+        String path;
+        String body;
+    }
+}
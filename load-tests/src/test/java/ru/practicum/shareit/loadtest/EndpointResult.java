@@ -0,0 +1,40 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.Getter;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+class EndpointResult {
+    @Getter
+    private final String name;
+    private final long[] latencies;
+    @Getter
+    private final long errors;
+    private final Duration duration;
+
+    EndpointResult(String name, long[] latencies, long errors, Duration duration) {
+        this.name = name;
+        this.latencies = latencies;
+        this.errors = errors;
+        this.duration = duration;
+        Arrays.sort(this.latencies);
+    }
+
+    long getRequests() {
+        return latencies.length;
+    }
+
+    double getThroughput() {
+        return latencies.length * 1000.0 / duration.toMillis();
+    }
+
+    double getPercentileMillis(double percentile) {
+        if (latencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * latencies.length) - 1;
+        return latencies[Math.max(index, 0)] / (double) TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
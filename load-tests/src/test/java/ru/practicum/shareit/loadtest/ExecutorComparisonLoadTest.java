@@ -0,0 +1,75 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnabledIfSystemProperty(named = "loadtest.executor-comparison", matches = "true")
+class ExecutorComparisonLoadTest {
+    private static final List<Endpoint> ENDPOINTS = List.of(
+            Endpoint.of("GET /items/{id}", (random, settings) ->
+                    "/items/" + (random.nextLong(settings.getItems()) + 1)),
+            Endpoint.of("GET /bookings", (random, settings) -> "/bookings?state=ALL&from=0&size=20")
+    );
+    private static final List<String> MODES = List.of("platform", "virtual");
+
+    private final LoadTestSettings settings = new LoadTestSettings();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+
+    @Test
+    void platformAndVirtualThreads_atHighConcurrency_shouldBothServeRequests() throws Exception {
+        Path workDir = ShareItStand.prepareWorkDir(settings);
+        List<Result> results = new ArrayList<>();
+        for (String mode : MODES) {
+            List<String> args = List.of("--shareit.virtual-threads.enabled=" + mode.equals("virtual"));
+            try (ShareItStand stand = ShareItStand.start(settings, client, workDir, mode + "-", args,
+                    results.isEmpty())) {
+                LoadRunner runner = new LoadRunner(client, stand.getGatewayUrl(), settings);
+                for (int concurrency : settings.getComparisonConcurrency()) {
+                    for (Endpoint endpoint : ENDPOINTS) {
+                        results.add(new Result(mode, concurrency, runner.run(endpoint, concurrency)));
+                    }
+                }
+            }
+        }
+        Files.writeString(workDir.resolve("executor-comparison.txt"), report(results));
+
+        assertAll(MODES.stream().map(mode -> () -> assertTrue(results.stream()
+                        .filter(result -> result.mode.equals(mode))
+                        .mapToLong(result -> result.endpoint.getRequests())
+                        .sum() > 0, mode + ": нет успешных запросов")));
+    }
+
+    private String report(List<Result> results) {
+        StringBuilder report = new StringBuilder(String.format("%-10s %8s %-18s %10s %10s %10s %10s %8s%n",
+                "Потоки", "Клиенты", "Endpoint", "Запросы", "RPS", "p50, мс", "p99, мс", "Ошибки"));
+        for (Result result : results) {
+            EndpointResult endpoint = result.endpoint;
+            report.append(String.format("%-10s %8d %-18s %10d %10.1f %10.2f %10.2f %8d%n",
+                    result.mode, result.concurrency, endpoint.getName(), endpoint.getRequests(),
+                    endpoint.getThroughput(), endpoint.getPercentileMillis(50), endpoint.getPercentileMillis(99),
+                    endpoint.getErrors()));
+        }
+        return report.toString();
+    }
+
+    @RequiredArgsConstructor
+    private static class Result {
+        private final String mode;
+        private final int concurrency;
+        private final EndpointResult endpoint;
+    }
+}
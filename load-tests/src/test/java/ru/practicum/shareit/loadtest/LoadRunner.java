@@ -0,0 +1,94 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@RequiredArgsConstructor
+class LoadRunner {
+    private final HttpClient client;
+    private final String baseUrl;
+    private final LoadTestSettings settings;
+
+    EndpointResult run(Endpoint endpoint) throws Exception {
+        return run(endpoint, settings.getConcurrency());
+    }
+
+    EndpointResult run(Endpoint endpoint, int concurrency) throws Exception {
+        drive(endpoint, concurrency, settings.getWarmup());
+        List<Worker> workers = drive(endpoint, concurrency, settings.getDuration());
+        long[] latencies = new long[workers.stream().mapToInt(worker -> worker.count).sum()];
+        long errors = 0;
+        int offset = 0;
+        for (Worker worker : workers) {
+            System.arraycopy(worker.latencies, 0, latencies, offset, worker.count);
+            offset += worker.count;
+            errors += worker.errors;
+        }
+        return new EndpointResult(endpoint.getName(), latencies, errors, settings.getDuration());
+    }
+
+    private List<Worker> drive(Endpoint endpoint, int concurrency, Duration duration) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        try {
+            long deadline = System.nanoTime() + duration.toNanos();
+            List<Worker> workers = new ArrayList<>();
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < concurrency; i++) {
+                Worker worker = new Worker(endpoint, deadline);
+                workers.add(worker);
+                futures.add(executor.submit(worker));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            return workers;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @RequiredArgsConstructor
+    private class Worker implements Runnable {
+        private final Endpoint endpoint;
+        private final long deadline;
+        private long[] latencies = new long[1024];
+        private int count;
+        private long errors;
+
+        @Override
+        public void run() {
+            while (System.nanoTime() < deadline) {
+                HttpRequest request = endpoint.request(baseUrl, settings);
+                long start = System.nanoTime();
+                try {
+                    int status = client.send(request, HttpResponse.BodyHandlers.ofByteArray()).statusCode();
+                    if (status != 200) {
+                        errors++;
+                        continue;
+                    }
+                } catch (IOException e) {
+                    errors++;
+                    continue;
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                if (count == latencies.length) {
+                    latencies = Arrays.copyOf(latencies, count * 2);
+                }
+                latencies[count++] = System.nanoTime() - start;
+            }
+        }
+    }
+}
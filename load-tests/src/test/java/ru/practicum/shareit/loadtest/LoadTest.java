@@ -0,0 +1,116 @@
+package ru.practicum.shareit.loadtest;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIfSystemProperty;
+import org.junit.jupiter.api.function.Executable;
+import ru.practicum.shareit.loadtest.Endpoint.Call;
+
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LoadTest {
+    private static final List<Endpoint> ENDPOINTS = List.of(
+            Endpoint.of("GET /users/{id}", (random, settings) ->
+                    "/users/" + (random.nextLong(settings.getUsers()) + 1)),
+            Endpoint.of("GET /items/{id}", (random, settings) ->
+                    "/items/" + (random.nextLong(settings.getItems()) + 1)),
+            Endpoint.of("GET /items", (random, settings) -> "/items?from=0&size=20"),
+            Endpoint.of("GET /items/search", (random, settings) ->
+                    "/items/search?from=0&size=20&text="
+                            + URLEncoder.encode("Вещь " + (random.nextLong(settings.getItems()) + 1),
+                            StandardCharsets.UTF_8)),
+            Endpoint.of("GET /bookings", (random, settings) -> "/bookings?state=ALL&from=0&size=20"),
+            Endpoint.of("GET /bookings/owner", (random, settings) -> "/bookings/owner?state=ALL&from=0&size=20"),
+            Endpoint.of("GET /requests", (random, settings) -> "/requests"),
+            Endpoint.of("GET /requests/all", (random, settings) -> "/requests/all?from=0&size=20"),
+            Endpoint.write("POST /items/batch", "POST", (random, settings) ->
+                    Call.of(random.nextLong(settings.getUsers()) + 1, "/items/batch", itemBatch(random))),
+            Endpoint.write("POST /bookings", "POST", LoadTest::newBooking),
+            Endpoint.write("PATCH /bookings/{id}", "PATCH", LoadTest::approveWaitingBooking)
+    );
+    private static final int ITEM_BATCH_SIZE = 10;
+    private static final AtomicLong WAITING_BOOKINGS = new AtomicLong();
+
+    private final LoadTestSettings settings = new LoadTestSettings();
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(2))
+            .build();
+
+    @Test
+    @DisabledIfSystemProperty(named = "loadtest.executor-comparison", matches = "true")
+    void endpoints_underLoad_shouldStayWithinLatencyBudget() throws Exception {
+        Path workDir = ShareItStand.prepareWorkDir(settings);
+        try (ShareItStand stand = ShareItStand.start(settings, client, workDir, "", List.of(), true)) {
+            LoadRunner runner = new LoadRunner(client, stand.getGatewayUrl(), settings);
+            List<EndpointResult> results = new ArrayList<>();
+            for (Endpoint endpoint : ENDPOINTS) {
+                results.add(runner.run(endpoint));
+            }
+            Files.writeString(workDir.resolve("report.txt"), report(results));
+
+            assertAll(results.stream().map(this::check));
+        }
+    }
+
+    private static String itemBatch(ThreadLocalRandom random) {
+        StringJoiner items = new StringJoiner(",", "[", "]");
+        for (int i = 0; i < ITEM_BATCH_SIZE; i++) {
+            long number = random.nextLong(1_000_000);
+            items.add("{\"name\":\"Новая вещь " + number + "\",\"description\":\"Описание новой вещи " + number
+                    + "\",\"available\":true}");
+        }
+        return items.toString();
+    }
+
+    private static Call newBooking(ThreadLocalRandom random, LoadTestSettings settings) {
+        long itemId = random.nextLong(settings.getItems() / 10) * 10 + 1 + random.nextLong(9);
+        long ownerId = itemId % settings.getUsers() + 1;
+        long bookerId = ownerId % settings.getUsers() + 1;
+        LocalDateTime start = LocalDateTime.now().plusYears(10).plusMinutes(random.nextLong(1_000_000))
+                .truncatedTo(ChronoUnit.SECONDS);
+        return Call.of(bookerId, "/bookings", "{\"itemId\":" + itemId + ",\"start\":\"" + start
+                + "\",\"end\":\"" + start.plusHours(1) + "\"}");
+    }
+
+    private static Call approveWaitingBooking(ThreadLocalRandom random, LoadTestSettings settings) {
+        long bookingId = (WAITING_BOOKINGS.getAndIncrement() % (settings.getBookings() / 10) + 1) * 10;
+        long itemId = bookingId % settings.getItems() + 1;
+        long ownerId = itemId % settings.getUsers() + 1;
+        return Call.of(ownerId, "/bookings/" + bookingId + "?approved=true", null);
+    }
+
+    private Executable check(EndpointResult result) {
+        return () -> assertAll(result.getName(),
+                () -> assertEquals(0, result.getErrors(), result.getName() + ": есть ошибочные ответы"),
+                () -> assertTrue(result.getRequests() > 0, result.getName() + ": нет успешных запросов"),
+                () -> assertTrue(result.getPercentileMillis(99) <= settings.getMaxP99Millis(),
+                        result.getName() + ": p99 превышает " + settings.getMaxP99Millis() + " мс"));
+    }
+
+    private String report(List<EndpointResult> results) {
+        StringBuilder report = new StringBuilder(String.format("%n%-22s %10s %10s %10s %10s %8s%n",
+                "Endpoint", "Запросы", "RPS", "p50, мс", "p99, мс", "Ошибки"));
+        for (EndpointResult result : results) {
+            report.append(String.format("%-22s %10d %10.1f %10.2f %10.2f %8d%n",
+                    result.getName(), result.getRequests(), result.getThroughput(),
+                    result.getPercentileMillis(50), result.getPercentileMillis(99), result.getErrors()));
+        }
+        return report.toString();
+    }
+}
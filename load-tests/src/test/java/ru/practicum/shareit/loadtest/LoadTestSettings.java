@@ -0,0 +1,86 @@
+package ru.practicum.shareit.loadtest;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+class LoadTestSettings {
+    private static final String PREFIX = "loadtest.";
+
+    long getUsers() {
+        return Long.getLong(PREFIX + "users", 10_000);
+    }
+
+    long getItems() {
+        return Long.getLong(PREFIX + "items", 100_000);
+    }
+
+    long getBookings() {
+        return Long.getLong(PREFIX + "bookings", 1_000_000);
+    }
+
+    int getConcurrency() {
+        return Integer.getInteger(PREFIX + "concurrency", 16);
+    }
+
+    List<Integer> getComparisonConcurrency() {
+        return Arrays.stream(System.getProperty(PREFIX + "comparison-concurrency", "1000,5000").split(","))
+                .map(String::trim)
+                .map(Integer::valueOf)
+                .collect(Collectors.toList());
+    }
+
+    Duration getWarmup() {
+        return Duration.parse("PT" + System.getProperty(PREFIX + "warmup", "10s"));
+    }
+
+    Duration getDuration() {
+        return Duration.parse("PT" + System.getProperty(PREFIX + "duration", "30s"));
+    }
+
+    Duration getStartupTimeout() {
+        return Duration.parse("PT" + System.getProperty(PREFIX + "startup-timeout", "3m"));
+    }
+
+    long getMaxP99Millis() {
+        return Long.getLong(PREFIX + "max-p99-ms", 500);
+    }
+
+    String getJava() {
+        return System.getProperty(PREFIX + "java",
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+    }
+
+    List<String> getJvmArgs() {
+        return split(System.getProperty(PREFIX + "jvm-args", "-Xmx1g"));
+    }
+
+    List<String> getServerArgs() {
+        return split(System.getProperty(PREFIX + "server-args", ""));
+    }
+
+    List<String> getGatewayArgs() {
+        return split(System.getProperty(PREFIX + "gateway-args", ""));
+    }
+
+    Path getServerJar() {
+        return Paths.get(System.getProperty(PREFIX + "server-jar"));
+    }
+
+    Path getGatewayJar() {
+        return Paths.get(System.getProperty(PREFIX + "gateway-jar"));
+    }
+
+    Path getWorkDir() {
+        return Paths.get(System.getProperty(PREFIX + "work-dir", "target/load-test"));
+    }
+
+    private static List<String> split(String value) {
+        return Arrays.stream(value.trim().split("\\s+"))
+                .filter(arg -> !arg.isEmpty())
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,94 @@
+package ru.practicum.shareit.loadtest;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.http.HttpClient;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+class ShareItStand implements AutoCloseable {
+    private final ApplicationProcess server;
+    private final ApplicationProcess gateway;
+    @Getter
+    private final String gatewayUrl;
+
+    static Path prepareWorkDir(LoadTestSettings settings) throws IOException {
+        Path workDir = Files.createDirectories(settings.getWorkDir().toAbsolutePath());
+        try (Stream<Path> files = Files.list(workDir)) {
+            for (Path file : files.filter(file -> file.getFileName().toString().startsWith("shareit."))
+                    .collect(Collectors.toList())) {
+                Files.delete(file);
+            }
+        }
+        return workDir;
+    }
+
+    static ShareItStand start(LoadTestSettings settings, HttpClient client, Path workDir, String logPrefix,
+                              List<String> args, boolean seed) throws Exception {
+        String databaseUrl = "jdbc:h2:file:" + workDir.resolve("shareit") + ";AUTO_SERVER=TRUE";
+        int serverPort = freePort();
+        int gatewayPort = freePort();
+
+        List<String> serverArgs = new ArrayList<>(List.of(
+                "--spring.profiles.active=ci",
+                "--server.port=" + serverPort,
+                "--spring.datasource.url=" + databaseUrl));
+        serverArgs.addAll(args);
+        serverArgs.addAll(settings.getServerArgs());
+        List<String> gatewayArgs = new ArrayList<>(List.of(
+                "--server.port=" + gatewayPort,
+                "--shareit-server.url=http://localhost:" + serverPort));
+        gatewayArgs.addAll(args);
+        gatewayArgs.addAll(settings.getGatewayArgs());
+
+        ApplicationProcess server = ApplicationProcess.start("ShareItServer", settings.getJava(),
+                settings.getJvmArgs(), settings.getServerJar(), serverArgs, workDir.resolve(logPrefix + "server.log"));
+        try {
+            server.awaitHealthy(client, serverPort, settings.getStartupTimeout());
+            if (seed) {
+                try (Connection connection = DriverManager.getConnection(databaseUrl, "test", "test")) {
+                    new DataSeeder(settings).seed(connection);
+                }
+            }
+            ApplicationProcess gateway = ApplicationProcess.start("ShareItGateway", settings.getJava(),
+                    settings.getJvmArgs(), settings.getGatewayJar(), gatewayArgs,
+                    workDir.resolve(logPrefix + "gateway.log"));
+            try {
+                gateway.awaitHealthy(client, gatewayPort, settings.getStartupTimeout());
+            } catch (Exception e) {
+                gateway.close();
+                throw e;
+            }
+            return new ShareItStand(server, gateway, "http://localhost:" + gatewayPort);
+        } catch (Exception e) {
+            server.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        try {
+            gateway.close();
+        } finally {
+            server.close();
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
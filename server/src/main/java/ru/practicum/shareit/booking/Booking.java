@@ -3,6 +3,7 @@ package ru.practicum.shareit.booking;
 import lombok.*;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.version.VersionedEntity;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -11,14 +12,13 @@ import java.util.Objects;
 @Getter
 @Setter
 @ToString
-@AllArgsConstructor
 @NoArgsConstructor
-@Builder
 @Entity
 @Table(name = "bookings")
-public class Booking {
+public class Booking extends VersionedEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "bookings_seq")
+    @SequenceGenerator(name = "bookings_seq", sequenceName = "bookings_seq", allocationSize = 50)
     private Long id;
     @Column(name = "start_time", nullable = false)
     private LocalDateTime start;
@@ -34,6 +34,24 @@ public class Booking {
     private User booker;
     @Enumerated(EnumType.STRING)
     private Status status;
+    @Column(name = "item_owner_id", nullable = false, updatable = false)
+    @Setter(AccessLevel.NONE)
+    private Long itemOwner;
+
+    @Builder
+    public Booking(Long id, LocalDateTime start, LocalDateTime end, Item item, User booker, Status status) {
+        this.id = id;
+        this.start = start;
+        this.end = end;
+        this.item = item;
+        this.booker = booker;
+        this.status = status;
+    }
+
+    @PrePersist
+    private void fillItemOwner() {
+        itemOwner = item.getOwner();
+    }
 
     @Override
     public final boolean equals(Object o) {
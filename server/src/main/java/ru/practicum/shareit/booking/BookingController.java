@@ -2,9 +2,13 @@ package ru.practicum.shareit.booking;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
+import ru.practicum.shareit.exception.InvalidCursorException;
 
 import java.util.List;
 
@@ -14,6 +18,7 @@ import java.util.List;
 @Slf4j
 public class BookingController {
     private static final String USER_ID_HEADER = "X-Sharer-User-Id";
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
     private final BookingService bookingService;
 
     @PostMapping
@@ -33,26 +38,62 @@ public class BookingController {
 
     @GetMapping("/{bookingId}")
     public BookingDto getBooking(@RequestHeader(USER_ID_HEADER) long userId,
-                                 @PathVariable long bookingId) {
+                                 @PathVariable long bookingId,
+                                 WebRequest request) {
         log.info("Получен запрос GET /bookings/{}", bookingId);
-        return bookingService.getBooking(userId, bookingId);
+        BookingDto booking = bookingService.getBooking(userId, bookingId);
+        return request.checkNotModified(booking.getEtag()) ? null : booking;
     }
 
     @GetMapping
-    public List<BookingDto> getUserBookings(@RequestHeader(USER_ID_HEADER) long userId,
-                                            @RequestParam State state,
-                                            @RequestParam int from,
-                                            @RequestParam int size) {
-        log.info("Получен запрос GET /bookings?state={}&from={}&size={}", state, from, size);
-        return bookingService.getUserBookings(userId, state, from, size);
+    public ResponseEntity<List<BookingDto>> getUserBookings(@RequestHeader(USER_ID_HEADER) long userId,
+                                                            @RequestParam State state,
+                                                            @RequestParam(required = false) Integer from,
+                                                            @RequestParam int size,
+                                                            @RequestParam(required = false) String cursor)
+            throws MissingServletRequestParameterException {
+        log.info("Получен запрос GET /bookings?state={}&from={}&size={}&cursor={}", state, from, size, cursor);
+        List<BookingDto> bookings = cursor == null
+                ? bookingService.getUserBookings(userId, state, offset(from), size)
+                : bookingService.getUserBookings(userId, state, decode(cursor, from), size);
+        return withNextCursor(bookings, size);
     }
 
     @GetMapping("/owner")
-    public List<BookingDto> getUserItemsBookings(@RequestHeader(USER_ID_HEADER) long userId,
-                                                 @RequestParam(defaultValue = "ALL") State state,
-                                                 @RequestParam int from,
-                                                 @RequestParam int size) {
-        log.info("Получен запрос GET /bookings/owner?state={}&from={}&size={}", state, from, size);
-        return bookingService.getUserItemsBookings(userId, state, from, size);
+    public ResponseEntity<List<BookingDto>> getUserItemsBookings(@RequestHeader(USER_ID_HEADER) long userId,
+                                                                 @RequestParam(defaultValue = "ALL") State state,
+                                                                 @RequestParam(required = false) Integer from,
+                                                                 @RequestParam int size,
+                                                                 @RequestParam(required = false) String cursor)
+            throws MissingServletRequestParameterException {
+        log.info("Получен запрос GET /bookings/owner?state={}&from={}&size={}&cursor={}", state, from, size, cursor);
+        List<BookingDto> bookings = cursor == null
+                ? bookingService.getUserItemsBookings(userId, state, offset(from), size)
+                : bookingService.getUserItemsBookings(userId, state, decode(cursor, from), size);
+        return withNextCursor(bookings, size);
+    }
+
+    private static int offset(Integer from) throws MissingServletRequestParameterException {
+        if (from == null) {
+            throw new MissingServletRequestParameterException("from", "int");
+        }
+        return from;
+    }
+
+    private static BookingCursor decode(String cursor, Integer from) {
+        if (from != null) {
+            throw new InvalidCursorException("Параметры from и cursor нельзя передавать одновременно");
+        }
+        return BookingCursor.decode(cursor);
+    }
+
+    private static ResponseEntity<List<BookingDto>> withNextCursor(List<BookingDto> bookings, int size) {
+        if (bookings.size() < size) {
+            return ResponseEntity.ok(bookings);
+        }
+        String nextCursor = BookingCursor.of(bookings.get(bookings.size() - 1)).encode();
+        return ResponseEntity.ok()
+                .header(NEXT_CURSOR_HEADER, nextCursor)
+                .body(bookings);
     }
 }
\ No newline at end of file
@@ -1,41 +1,184 @@
 package ru.practicum.shareit.booking;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface BookingRepository extends JpaRepository<Booking, Long> {
-    Page<Booking> findAllByBookerId(long userId, Pageable page);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Optional<Booking> findById(Long id);
 
-    Page<Booking> findAllByBookerIdAndStartAfter(long userId, LocalDateTime date, Pageable page);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findAllByBookerId(long userId, Pageable page);
 
-    Page<Booking> findAllByBookerIdAndEndBefore(long userId, LocalDateTime date, Pageable page);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findAllByBookerIdAndStartAfter(long userId, LocalDateTime date, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findAllByBookerIdAndEndBefore(long userId, LocalDateTime date, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
     @Query("select b " +
             "from Booking as b " +
             "where b.booker.id = ?1 " +
             "and ?2 between b.start and b.end")
-    Page<Booking> findAllCurrentByBookerId(long userId, LocalDateTime date, Pageable page);
+    Slice<Booking> findAllCurrentByBookerId(long userId, LocalDateTime date, Pageable page);
 
-    Page<Booking> findAllByBookerIdAndStatus(long userId, Status status, Pageable page);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findAllByBookerIdAndStatus(long userId, Status status, Pageable page);
 
-    Page<Booking> findAllByItemOwner(long userId, Pageable page);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findAllByItemOwner(long userId, Pageable page);
 
-    Page<Booking> findAllByItemOwnerAndStartAfter(long userId, LocalDateTime date, Pageable page);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findAllByItemOwnerAndStartAfter(long userId, LocalDateTime date, Pageable page);
 
-    Page<Booking> findAllByItemOwnerAndEndBefore(long userId, LocalDateTime date, Pageable page);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findAllByItemOwnerAndEndBefore(long userId, LocalDateTime date, Pageable page);
 
+    @EntityGraph(attributePaths = {"item", "booker"})
     @Query("select b " +
             "from Booking as b " +
-            "where b.item.owner = ?1 " +
+            "where b.itemOwner = ?1 " +
             "and ?2 between b.start and b.end")
-    Page<Booking> findAllCurrentByItemOwner(long userId, LocalDateTime date, Pageable page);
+    Slice<Booking> findAllCurrentByItemOwner(long userId, LocalDateTime date, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    Slice<Booking> findAllByItemOwnerAndStatus(long userId, Status status, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.booker.id = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    List<Booking> seekByBookerId(long userId, LocalDateTime start, long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.booker.id = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "and b.end < ?4 " +
+            "order by b.start desc, b.id desc")
+    List<Booking> seekPastByBookerId(long userId, LocalDateTime start, long id, LocalDateTime date, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.booker.id = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "and ?4 between b.start and b.end " +
+            "order by b.start desc, b.id desc")
+    List<Booking> seekCurrentByBookerId(long userId, LocalDateTime start, long id, LocalDateTime date, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.booker.id = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "and b.start > ?4 " +
+            "order by b.start desc, b.id desc")
+    List<Booking> seekFutureByBookerId(long userId, LocalDateTime start, long id, LocalDateTime date, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.booker.id = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "and b.status = ?4 " +
+            "order by b.start desc, b.id desc")
+    List<Booking> seekByBookerIdAndStatus(long userId, LocalDateTime start, long id, Status status, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.itemOwner = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "order by b.start desc, b.id desc")
+    List<Booking> seekByItemOwner(long userId, LocalDateTime start, long id, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.itemOwner = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "and b.end < ?4 " +
+            "order by b.start desc, b.id desc")
+    List<Booking> seekPastByItemOwner(long userId, LocalDateTime start, long id, LocalDateTime date, Pageable page);
+
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.itemOwner = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "and ?4 between b.start and b.end " +
+            "order by b.start desc, b.id desc")
+    List<Booking> seekCurrentByItemOwner(long userId, LocalDateTime start, long id, LocalDateTime date, Pageable page);
 
-    Page<Booking> findAllByItemOwnerAndStatus(long userId, Status status, Pageable page);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.itemOwner = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "and b.start > ?4 " +
+            "order by b.start desc, b.id desc")
+    List<Booking> seekFutureByItemOwner(long userId, LocalDateTime start, long id, LocalDateTime date, Pageable page);
 
-    List<Booking> findAllByItemId(long itemId);
+    @EntityGraph(attributePaths = {"item", "booker"})
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.itemOwner = ?1 " +
+            "and (b.start < ?2 or (b.start = ?2 and b.id < ?3)) " +
+            "and b.status = ?4 " +
+            "order by b.start desc, b.id desc")
+    List<Booking> seekByItemOwnerAndStatus(long userId, LocalDateTime start, long id, Status status, Pageable page);
+
+    boolean existsByBookerIdAndItemIdAndStatusAndEndBefore(long bookerId, long itemId, Status status,
+                                                           LocalDateTime date);
+
+    @Query("select count(b) > 0 " +
+            "from Booking as b " +
+            "where b.item.id = ?1 " +
+            "and b.status = ?2 " +
+            "and b.start < ?4 " +
+            "and b.end > ?3")
+    boolean existsOverlapping(long itemId, Status status, LocalDateTime start, LocalDateTime end);
+
+    Optional<Booking> findFirstByItemIdAndStatusAndStartBeforeOrderByStartDesc(long itemId,
+                                                                               Status status,
+                                                                               LocalDateTime date);
+
+    Optional<Booking> findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(long itemId,
+                                                                             Status status,
+                                                                             LocalDateTime date);
+
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.item.id in ?1 " +
+            "and b.status = ?2 " +
+            "and b.start = (select max(lb.start) " +
+            "from Booking as lb " +
+            "where lb.item.id = b.item.id " +
+            "and lb.status = ?2 " +
+            "and lb.start < ?3)")
+    List<Booking> findAllLastByItemIdIn(Collection<Long> itemIds, Status status, LocalDateTime date);
+
+    @Query("select b " +
+            "from Booking as b " +
+            "where b.item.id in ?1 " +
+            "and b.status = ?2 " +
+            "and b.start = (select min(nb.start) " +
+            "from Booking as nb " +
+            "where nb.item.id = b.item.id " +
+            "and nb.status = ?2 " +
+            "and nb.start > ?3)")
+    List<Booking> findAllNextByItemIdIn(Collection<Long> itemIds, Status status, LocalDateTime date);
 }
\ No newline at end of file
@@ -14,5 +14,9 @@ public interface BookingService {
 
     List<BookingDto> getUserBookings(long userId, State state, int from, int size);
 
+    List<BookingDto> getUserBookings(long userId, State state, BookingCursor cursor, int size);
+
     List<BookingDto> getUserItemsBookings(long userId, State state, int from, int size);
+
+    List<BookingDto> getUserItemsBookings(long userId, State state, BookingCursor cursor, int size);
 }
\ No newline at end of file
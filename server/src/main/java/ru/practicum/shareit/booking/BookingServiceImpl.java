@@ -1,8 +1,10 @@
 package ru.practicum.shareit.booking;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -12,8 +14,11 @@ import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserIdIndex;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.version.ETags;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -23,12 +28,14 @@ import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final UserIdIndex userIdIndex;
 
     @Override
     @Transactional
@@ -41,12 +48,19 @@ public class BookingServiceImpl implements BookingService {
         if (!item.getAvailable()) {
             throw new ItemUnavailableException("Вещь с id=" + bookingCreationDto.getItemId() + " недоступна.");
         }
+        if (bookingRepository.existsOverlapping(item.getId(), Status.APPROVED,
+                bookingCreationDto.getStart(), bookingCreationDto.getEnd())) {
+            throw new ItemUnavailableException("Вещь с id=" + bookingCreationDto.getItemId() +
+                    " уже забронирована на период с " + bookingCreationDto.getStart() +
+                    " по " + bookingCreationDto.getEnd() + ".");
+        }
         Booking booking = BookingMapper.toBooking(bookingCreationDto);
         booking.setItem(item);
         booking.setBooker(booker);
         booking.setStatus(Status.WAITING);
         Booking newBooking = bookingRepository.save(booking);
-        log.info("Пользователем с id={} добавлено бронирование: {}", userId, newBooking);
+        log.info("Пользователем с id={} добавлено бронирование с id={}", userId, newBooking.getId());
+        log.debug("Добавленное бронирование: {}", newBooking);
 
         return BookingMapper.toBookingDto(newBooking);
     }
@@ -62,6 +76,11 @@ public class BookingServiceImpl implements BookingService {
         if (booking.getStatus() != Status.WAITING) {
             throw new BookingUnavailableException("Бронирование с id=" + bookingId + " уже было подтверждено или отклонено ранее.");
         }
+        if (approved && bookingRepository.existsOverlapping(booking.getItem().getId(), Status.APPROVED,
+                booking.getStart(), booking.getEnd())) {
+            throw new BookingUnavailableException("Бронирование с id=" + bookingId +
+                    " пересекается с уже подтвержденным бронированием этой вещи.");
+        }
         booking.setStatus(approved ? Status.APPROVED : Status.REJECTED);
         log.info("Владелец вещи изменил статус бронирования с id={} на {}", bookingId, booking.getStatus());
 
@@ -75,117 +94,261 @@ public class BookingServiceImpl implements BookingService {
         if (!Objects.equals(booking.getItem().getOwner(), user.getId()) && !Objects.equals(booking.getBooker().getId(), user.getId())) {
             throw new AccessDeniedException("Получить информацию о бронировании может только владелец вещи или автор бронирования.");
         }
-        log.info("Возвращено бронирование: {}", booking);
+        log.info("Возвращено бронирование с id={}", bookingId);
+        log.debug("Бронирование: {}", booking);
+        BookingDto bookingDto = BookingMapper.toBookingDto(booking);
+        bookingDto.setEtag(ETags.of(booking.getId(), booking.getVersion(),
+                booking.getItem().getVersion(), booking.getBooker().getVersion()));
 
-        return BookingMapper.toBookingDto(booking);
+        return bookingDto;
     }
 
     @Override
     public List<BookingDto> getUserBookings(long userId, State state, int from, int size) {
-        getUser(userId);
+        userIdIndex.checkExists(userId);
         List<Booking> bookings = new ArrayList<>();
-        Sort newestFirst = Sort.by(Sort.Direction.DESC, "start");
+        Sort newestFirst = Sort.by(Sort.Direction.DESC, "start", "id");
         switch (state) {
             case ALL:
                 bookings = bookingRepository.findAllByBookerId(
                         userId,
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
             case PAST:
                 bookings = bookingRepository.findAllByBookerIdAndEndBefore(
                         userId,
                         LocalDateTime.now(),
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
             case CURRENT:
                 bookings = bookingRepository.findAllCurrentByBookerId(
                         userId,
                         LocalDateTime.now(),
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
             case FUTURE:
                 bookings = bookingRepository.findAllByBookerIdAndStartAfter(
                         userId,
                         LocalDateTime.now(),
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
             case WAITING:
                 bookings = bookingRepository.findAllByBookerIdAndStatus(
                         userId,
                         Status.WAITING,
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
             case REJECTED:
                 bookings = bookingRepository.findAllByBookerIdAndStatus(
                         userId,
                         Status.REJECTED,
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
         }
-        log.info("Возвращен список всех бронирований пользователя с id={}, параметр state={}: {}",
-                userId, state, bookings);
+        List<BookingDto> bookingDtos = bookings.stream().map(BookingMapper::toBookingDto).collect(Collectors.toList());
+        log.info("Возвращен список всех бронирований пользователя с id={}, параметр state={}, количество: {}",
+                userId, state, bookingDtos.size());
+        log.debug("Список бронирований: {}", bookingDtos);
 
-        return bookings.stream().map(BookingMapper::toBookingDto).collect(Collectors.toList());
+        return bookingDtos;
+    }
+
+    @Override
+    public List<BookingDto> getUserBookings(long userId, State state, BookingCursor cursor, int size) {
+        userIdIndex.checkExists(userId);
+        List<Booking> bookings = new ArrayList<>();
+        Pageable firstPage = PageRequest.of(0, size);
+        switch (state) {
+            case ALL:
+                bookings = bookingRepository.seekByBookerId(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        firstPage
+                );
+                break;
+            case PAST:
+                bookings = bookingRepository.seekPastByBookerId(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        LocalDateTime.now(),
+                        firstPage
+                );
+                break;
+            case CURRENT:
+                bookings = bookingRepository.seekCurrentByBookerId(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        LocalDateTime.now(),
+                        firstPage
+                );
+                break;
+            case FUTURE:
+                bookings = bookingRepository.seekFutureByBookerId(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        LocalDateTime.now(),
+                        firstPage
+                );
+                break;
+            case WAITING:
+                bookings = bookingRepository.seekByBookerIdAndStatus(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        Status.WAITING,
+                        firstPage
+                );
+                break;
+            case REJECTED:
+                bookings = bookingRepository.seekByBookerIdAndStatus(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        Status.REJECTED,
+                        firstPage
+                );
+                break;
+        }
+        List<BookingDto> bookingDtos = bookings.stream().map(BookingMapper::toBookingDto).collect(Collectors.toList());
+        log.info("Возвращен список всех бронирований пользователя с id={}, параметр state={}, курсор {}, количество: {}",
+                userId, state, cursor, bookingDtos.size());
+        log.debug("Список бронирований: {}", bookingDtos);
+
+        return bookingDtos;
     }
 
     @Override
     public List<BookingDto> getUserItemsBookings(long userId, State state, int from, int size) {
-        getUser(userId);
+        userIdIndex.checkExists(userId);
         List<Booking> bookings = new ArrayList<>();
-        Sort newestFirst = Sort.by(Sort.Direction.DESC, "start");
+        Sort newestFirst = Sort.by(Sort.Direction.DESC, "start", "id");
         switch (state) {
             case ALL:
                 bookings = bookingRepository.findAllByItemOwner(
                         userId,
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
             case PAST:
                 bookings = bookingRepository.findAllByItemOwnerAndEndBefore(
                         userId,
                         LocalDateTime.now(),
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
             case CURRENT:
                 bookings = bookingRepository.findAllCurrentByItemOwner(
                         userId,
                         LocalDateTime.now(),
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
             case FUTURE:
                 bookings = bookingRepository.findAllByItemOwnerAndStartAfter(
                         userId,
                         LocalDateTime.now(),
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
             case WAITING:
                 bookings = bookingRepository.findAllByItemOwnerAndStatus(
                         userId,
                         Status.WAITING,
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
             case REJECTED:
                 bookings = bookingRepository.findAllByItemOwnerAndStatus(
                         userId,
                         Status.REJECTED,
-                        PageRequest.of(from / size, size, newestFirst)
+                        OffsetPageRequest.of(from, size, newestFirst)
                 ).getContent();
                 break;
         }
-        log.info("Возвращен список бронирований для всех вещей пользователя с id={}, параметр state={}: {}",
-                userId, state, bookings);
+        List<BookingDto> bookingDtos = bookings.stream().map(BookingMapper::toBookingDto).collect(Collectors.toList());
+        log.info("Возвращен список бронирований для всех вещей пользователя с id={}, параметр state={}, количество: {}",
+                userId, state, bookingDtos.size());
+        log.debug("Список бронирований: {}", bookingDtos);
+
+        return bookingDtos;
+    }
+
+    @Override
+    public List<BookingDto> getUserItemsBookings(long userId, State state, BookingCursor cursor, int size) {
+        userIdIndex.checkExists(userId);
+        List<Booking> bookings = new ArrayList<>();
+        Pageable firstPage = PageRequest.of(0, size);
+        switch (state) {
+            case ALL:
+                bookings = bookingRepository.seekByItemOwner(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        firstPage
+                );
+                break;
+            case PAST:
+                bookings = bookingRepository.seekPastByItemOwner(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        LocalDateTime.now(),
+                        firstPage
+                );
+                break;
+            case CURRENT:
+                bookings = bookingRepository.seekCurrentByItemOwner(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        LocalDateTime.now(),
+                        firstPage
+                );
+                break;
+            case FUTURE:
+                bookings = bookingRepository.seekFutureByItemOwner(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        LocalDateTime.now(),
+                        firstPage
+                );
+                break;
+            case WAITING:
+                bookings = bookingRepository.seekByItemOwnerAndStatus(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        Status.WAITING,
+                        firstPage
+                );
+                break;
+            case REJECTED:
+                bookings = bookingRepository.seekByItemOwnerAndStatus(
+                        userId,
+                        cursor.getStart(),
+                        cursor.getId(),
+                        Status.REJECTED,
+                        firstPage
+                );
+                break;
+        }
+        List<BookingDto> bookingDtos = bookings.stream().map(BookingMapper::toBookingDto).collect(Collectors.toList());
+        log.info("Возвращен список бронирований для всех вещей пользователя с id={}, параметр state={}, курсор {}, количество: {}",
+                userId, state, cursor, bookingDtos.size());
+        log.debug("Список бронирований: {}", bookingDtos);
 
-        return bookings.stream().map(BookingMapper::toBookingDto).collect(Collectors.toList());
+        return bookingDtos;
     }
 
     private User getUser(long userId) {
@@ -3,15 +3,20 @@ package ru.practicum.shareit.exception;
 import lombok.extern.slf4j.Slf4j;
 import org.postgresql.util.PSQLException;
 import org.postgresql.util.ServerErrorMessage;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import javax.persistence.OptimisticLockException;
+
 @RestControllerAdvice
 @Slf4j
 public class ExceptionControllerHandler {
-    @ExceptionHandler({ItemUnavailableException.class, BookingUnavailableException.class})
+    @ExceptionHandler({ItemUnavailableException.class,
+            BookingUnavailableException.class,
+            InvalidCursorException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public Response handleUnavailableException(RuntimeException ex) {
         log.error(ex.getMessage());
@@ -31,6 +36,15 @@ public class ExceptionControllerHandler {
         return new Response((ex.getMessage()));
     }
 
+    @ExceptionHandler({OptimisticLockingFailureException.class,
+            OptimisticLockException.class})
+    @ResponseStatus(HttpStatus.CONFLICT)
+    public Response handleOptimisticLockException(RuntimeException ex) {
+        log.error(ex.getMessage());
+
+        return new Response("Объект был изменен другим запросом, повторите запрос.");
+    }
+
     @ExceptionHandler
     @ResponseStatus(HttpStatus.CONFLICT)
     public Response handlePSQLException(PSQLException ex) {
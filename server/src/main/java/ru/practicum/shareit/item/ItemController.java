@@ -3,6 +3,7 @@ package ru.practicum.shareit.item;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemInfoDto;
@@ -27,9 +28,11 @@ public class ItemController {
 
     @GetMapping("/{itemId}")
     public ItemInfoDto getItemById(@RequestHeader(USER_ID_HEADER) long userId,
-                                   @PathVariable long itemId) {
+                                   @PathVariable long itemId,
+                                   WebRequest request) {
         log.info("Получен запрос GET /items/{}", itemId);
-        return itemService.getItemById(userId, itemId);
+        ItemInfoDto item = itemService.getItemById(userId, itemId);
+        return request.checkNotModified(item.getEtag()) ? null : item;
     }
 
     @PostMapping
@@ -39,6 +42,13 @@ public class ItemController {
         return itemService.addItem(userId, itemDto);
     }
 
+    @PostMapping("/batch")
+    public List<ItemDto> addItems(@RequestHeader(USER_ID_HEADER) long userId,
+                                  @RequestBody List<ItemDto> itemDtos) {
+        log.info("Получен запрос POST /items/batch");
+        return itemService.addItems(userId, itemDtos);
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDto updateItem(@RequestHeader(USER_ID_HEADER) long userId,
                               @PathVariable long itemId,
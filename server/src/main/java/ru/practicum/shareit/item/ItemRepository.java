@@ -1,21 +1,30 @@
 package ru.practicum.shareit.item;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface ItemRepository extends JpaRepository<Item, Long> {
-    Page<Item> findAllByOwnerOrderById(Long userId, Pageable page);
+    Slice<Item> findAllBy(Pageable page);
+
+    Slice<Item> findAllByOwnerOrderById(Long userId, Pageable page);
 
     @Query("select i " +
             "from Item as i " +
             "where i.available = true " +
-            "and (lower(i.name) like lower(concat('%', ?1, '%')) " +
-            "or lower(i.description) like lower(concat('%', ?1, '%')))")
-    Page<Item> search(String text, Pageable page);
+            "and (lower(i.name) like lower(concat('%', ?1, '%')) escape '\\' " +
+            "or lower(i.description) like lower(concat('%', ?1, '%')) escape '\\') " +
+            "order by case " +
+            "when lower(i.name) like lower(concat(?1, '%')) escape '\\' then 0 " +
+            "when lower(i.name) like lower(concat('%', ?1, '%')) escape '\\' then 1 " +
+            "else 2 end, i.id")
+    Slice<Item> search(String text, Pageable page);
 
     List<Item> findAllByRequest(Long requestId);
+
+    List<Item> findAllByRequestIn(Collection<Long> requestIds);
 }
\ No newline at end of file
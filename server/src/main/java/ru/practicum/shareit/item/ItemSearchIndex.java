@@ -0,0 +1,312 @@
+package ru.practicum.shareit.item;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+@Component
+@Slf4j
+public class ItemSearchIndex {
+    private static final int GRAM_LENGTH = 3;
+    private static final int RANKS = 3;
+    private static final int LOAD_BATCH_SIZE = 1000;
+    private final ItemRepository itemRepository;
+    private final boolean enabled;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexData data = new IndexData();
+    private List<Consumer<IndexData>> pendingUpdates;
+    private volatile boolean ready;
+
+    public ItemSearchIndex(ItemRepository itemRepository,
+                           @Value("${shareit.search.index.enabled:false}") boolean enabled) {
+        this.itemRepository = itemRepository;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (enabled) {
+            rebuild();
+        }
+    }
+
+    public synchronized void rebuild() {
+        IndexData rebuilt = new IndexData();
+        lock.writeLock().lock();
+        try {
+            pendingUpdates = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        boolean loaded = false;
+        try {
+            Slice<Item> page;
+            int pageNumber = 0;
+            do {
+                page = itemRepository.findAllBy(PageRequest.of(pageNumber++, LOAD_BATCH_SIZE, Sort.by("id")));
+                page.forEach(rebuilt::put);
+            } while (page.hasNext());
+            loaded = true;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (loaded) {
+                    pendingUpdates.forEach(update -> update.accept(rebuilt));
+                    data = rebuilt;
+                    ready = true;
+                }
+                pendingUpdates = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("Поисковый индекс вещей построен, проиндексировано вещей: {}", rebuilt.items.size());
+    }
+
+    public void index(Item item) {
+        if (enabled) {
+            afterCommit(() -> update(indexData -> indexData.put(item)));
+        }
+    }
+
+    public void removeByOwner(long ownerId) {
+        if (enabled) {
+            afterCommit(() -> update(indexData -> indexData.removeByOwner(ownerId)));
+        }
+    }
+
+    public List<ItemDto> search(String text, int from, int size) {
+        String query = text.toLowerCase(Locale.ROOT);
+        lock.readLock().lock();
+        try {
+            IndexData current = data;
+            Map<Long, IndexedItem> items = current.items;
+            Collection<Long> candidates = query.length() < GRAM_LENGTH
+                    ? items.keySet()
+                    : current.findCandidates(query);
+            long[][] found = new long[RANKS][candidates.size()];
+            int[] foundSizes = new int[RANKS];
+            for (long id : candidates) {
+                int rank = items.get(id).rank(query);
+                if (rank >= 0) {
+                    found[rank][foundSizes[rank]++] = id;
+                }
+            }
+
+            List<ItemDto> result = new ArrayList<>();
+            int skip = from;
+            for (int rank = 0; rank < RANKS && result.size() < size; rank++) {
+                Arrays.sort(found[rank], 0, foundSizes[rank]);
+                for (int i = Math.min(skip, foundSizes[rank]); i < foundSizes[rank] && result.size() < size; i++) {
+                    result.add(items.get(found[rank][i]).toItemDto());
+                }
+                skip = Math.max(0, skip - foundSizes[rank]);
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<Long, ItemDto> snapshot() {
+        lock.readLock().lock();
+        try {
+            return data.items.values().stream()
+                    .collect(Collectors.toMap(item -> item.id, IndexedItem::toItemDto));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void update(Consumer<IndexData> update) {
+        lock.writeLock().lock();
+        try {
+            update.accept(data);
+            if (pendingUpdates != null) {
+                pendingUpdates.add(update);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static class IndexData {
+        private final Map<String, PostingList> postings = new HashMap<>();
+        private final Map<Long, IndexedItem> items = new HashMap<>();
+
+        private List<Long> findCandidates(String query) {
+            List<PostingList> lists = new ArrayList<>();
+            for (String gram : grams(query)) {
+                PostingList list = postings.get(gram);
+                if (list == null) {
+                    return Collections.emptyList();
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+            PostingList smallest = lists.get(0);
+            List<Long> candidates = new ArrayList<>();
+            for (int i = 0; i < smallest.size; i++) {
+                long id = smallest.ids[i];
+                if (lists.stream().allMatch(list -> list.contains(id))) {
+                    candidates.add(id);
+                }
+            }
+
+            return candidates;
+        }
+
+        private void put(Item item) {
+            long id = item.getId();
+            remove(id);
+            if (!Boolean.TRUE.equals(item.getAvailable())) {
+                return;
+            }
+            IndexedItem indexedItem = new IndexedItem(item);
+            items.put(id, indexedItem);
+            for (String gram : indexedItem.grams()) {
+                postings.computeIfAbsent(gram, key -> new PostingList()).add(id);
+            }
+        }
+
+        private void remove(long id) {
+            IndexedItem indexedItem = items.remove(id);
+            if (indexedItem == null) {
+                return;
+            }
+            for (String gram : indexedItem.grams()) {
+                PostingList list = postings.get(gram);
+                list.remove(id);
+                if (list.size == 0) {
+                    postings.remove(gram);
+                }
+            }
+        }
+
+        private void removeByOwner(long ownerId) {
+            List<Long> ownerItems = items.values().stream()
+                    .filter(item -> item.owner == ownerId)
+                    .map(item -> item.id)
+                    .collect(Collectors.toList());
+            ownerItems.forEach(this::remove);
+        }
+    }
+
+    private static class IndexedItem {
+        private final long id;
+        private final long owner;
+        private final String name;
+        private final String description;
+        private final Long requestId;
+        private final String lowerName;
+        private final String lowerDescription;
+
+        private IndexedItem(Item item) {
+            this.id = item.getId();
+            this.owner = item.getOwner();
+            this.name = item.getName();
+            this.description = item.getDescription();
+            this.requestId = item.getRequest();
+            this.lowerName = name.toLowerCase(Locale.ROOT);
+            this.lowerDescription = description.toLowerCase(Locale.ROOT);
+        }
+
+        private Set<String> grams() {
+            Set<String> grams = ItemSearchIndex.grams(lowerName);
+            grams.addAll(ItemSearchIndex.grams(lowerDescription));
+            return grams;
+        }
+
+        private int rank(String query) {
+            if (lowerName.startsWith(query)) {
+                return 0;
+            }
+            if (lowerName.contains(query)) {
+                return 1;
+            }
+            if (lowerDescription.contains(query)) {
+                return 2;
+            }
+            return -1;
+        }
+
+        private ItemDto toItemDto() {
+            return new ItemDto(id, name, description, true, requestId);
+        }
+    }
+
+    private static class PostingList {
+        private long[] ids = new long[4];
+        private int size;
+
+        private boolean contains(long id) {
+            return Arrays.binarySearch(ids, 0, size, id) >= 0;
+        }
+
+        private void add(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position >= 0) {
+                return;
+            }
+            position = -position - 1;
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            ids[position] = id;
+            size++;
+        }
+
+        private void remove(long id) {
+            int position = Arrays.binarySearch(ids, 0, size, id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+    }
+}
\ No newline at end of file
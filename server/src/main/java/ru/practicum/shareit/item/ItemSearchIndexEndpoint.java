@@ -0,0 +1,73 @@
+package ru.practicum.shareit.item;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemMapper;
+
+import java.util.*;
+
+@Component
+@Endpoint(id = "itemsearchindex")
+@RequiredArgsConstructor
+public class ItemSearchIndexEndpoint {
+    private static final int CHECK_BATCH_SIZE = 1000;
+    private final ItemSearchIndex itemSearchIndex;
+    private final ItemRepository itemRepository;
+
+    @ReadOperation
+    public Map<String, Object> check() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("enabled", itemSearchIndex.isEnabled());
+        report.put("ready", itemSearchIndex.isReady());
+        if (!itemSearchIndex.isReady()) {
+            return report;
+        }
+        Map<Long, ItemDto> indexed = itemSearchIndex.snapshot();
+        List<Long> missing = new ArrayList<>();
+        List<Long> outdated = new ArrayList<>();
+        Set<Long> available = new HashSet<>();
+        Slice<Item> page;
+        int pageNumber = 0;
+        do {
+            page = itemRepository.findAllBy(PageRequest.of(pageNumber++, CHECK_BATCH_SIZE, Sort.by("id")));
+            for (Item item : page) {
+                if (!item.getAvailable()) {
+                    continue;
+                }
+                available.add(item.getId());
+                ItemDto indexedItem = indexed.get(item.getId());
+                if (indexedItem == null) {
+                    missing.add(item.getId());
+                } else if (!indexedItem.equals(ItemMapper.toItemDto(item))) {
+                    outdated.add(item.getId());
+                }
+            }
+        } while (page.hasNext());
+        List<Long> unexpected = new ArrayList<>(indexed.keySet());
+        unexpected.removeAll(available);
+        Collections.sort(unexpected);
+
+        report.put("indexedItems", indexed.size());
+        report.put("availableItems", available.size());
+        report.put("consistent", missing.isEmpty() && outdated.isEmpty() && unexpected.isEmpty());
+        report.put("missing", missing);
+        report.put("outdated", outdated);
+        report.put("unexpected", unexpected);
+        return report;
+    }
+
+    @WriteOperation
+    public Map<String, Object> rebuild() {
+        if (itemSearchIndex.isEnabled()) {
+            itemSearchIndex.rebuild();
+        }
+        return check();
+    }
+}
\ No newline at end of file
@@ -13,6 +13,8 @@ public interface ItemService {
 
     ItemDto addItem(long userId, ItemDto itemDto);
 
+    List<ItemDto> addItems(long userId, List<ItemDto> itemDtos);
+
     ItemDto updateItem(long userId, long itemId, ItemDto itemDto);
 
     List<ItemDto> searchItem(String text, int from, int size);
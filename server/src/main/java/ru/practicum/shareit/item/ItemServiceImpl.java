@@ -1,8 +1,10 @@
 package ru.practicum.shareit.item;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.Booking;
@@ -15,8 +17,11 @@ import ru.practicum.shareit.exception.ItemNotFoundException;
 import ru.practicum.shareit.exception.ItemUnavailableException;
 import ru.practicum.shareit.exception.UserNotFoundException;
 import ru.practicum.shareit.item.dto.*;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserIdIndex;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.version.ETags;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -24,38 +29,38 @@ import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ItemServiceImpl implements ItemService {
     private final ItemRepository itemRepository;
     private final UserRepository userRepository;
+    private final UserIdIndex userIdIndex;
     private final BookingRepository bookingRepository;
     private final CommentRepository commentRepository;
+    private final ItemSearchIndex itemSearchIndex;
 
     @Override
     public List<ItemInfoDto> getAllItems(long userId, int from, int size) {
-        getUser(userId);
-        List<ItemInfoDto> items = itemRepository.findAllByOwnerOrderById(
-                        userId,
-                        PageRequest.of(from / size, size)
-                ).get()
-                .map(this::mapItemToDto)
-                .collect(Collectors.toList());
-        log.info("Возвращен список вещей для пользователя с id={}: {}", userId, items);
+        userIdIndex.checkExists(userId);
+        List<Item> ownerItems = itemRepository.findAllByOwnerOrderById(userId, PageRequest.of(from / size, size))
+                .getContent();
+        List<ItemInfoDto> items = mapItemsToDto(ownerItems);
+        log.info("Возвращен список вещей для пользователя с id={}, количество: {}", userId, items.size());
+        log.debug("Список вещей: {}", items);
 
         return items;
     }
 
     @Override
     public ItemInfoDto getItemById(long userId, long itemId) {
-        getUser(userId);
+        userIdIndex.checkExists(userId);
         Item item = getItem(itemId);
-        ItemInfoDto itemDto = mapItemToDto(item);
-        if (item.getOwner() != userId) {
-            itemDto.setLastBooking(null);
-            itemDto.setNextBooking(null);
-        }
-        log.info("Возвращена вещь: {}", itemDto);
+        ItemInfoDto itemDto = mapItemToDto(item, item.getOwner() == userId);
+        itemDto.setEtag(ETags.of(item.getId(), item.getVersion(),
+                itemDto.getLastBooking(), itemDto.getNextBooking(), itemDto.getComments()));
+        log.info("Возвращена вещь с id={}", itemId);
+        log.debug("Вещь: {}", itemDto);
 
         return itemDto;
     }
@@ -63,19 +68,41 @@ public class ItemServiceImpl implements ItemService {
     @Override
     @Transactional
     public ItemDto addItem(long userId, ItemDto itemDto) {
-        getUser(userId);
+        userIdIndex.checkExists(userId);
         Item item = ItemMapper.toItem(itemDto);
         item.setOwner(userId);
         Item newItem = itemRepository.save(item);
-        log.info("Пользователем с id={} добавлена вещь: {}", userId, newItem);
+        itemSearchIndex.index(newItem);
+        log.info("Пользователем с id={} добавлена вещь с id={}", userId, newItem.getId());
+        log.debug("Добавленная вещь: {}", newItem);
 
         return ItemMapper.toItemDto(newItem);
     }
 
+    @Override
+    @Transactional
+    public List<ItemDto> addItems(long userId, List<ItemDto> itemDtos) {
+        userIdIndex.checkExists(userId);
+        List<Item> items = itemDtos.stream()
+                .map(itemDto -> {
+                    Item item = ItemMapper.toItem(itemDto);
+                    item.setOwner(userId);
+                    return item;
+                })
+                .collect(Collectors.toList());
+        List<Item> newItems = itemRepository.saveAll(items);
+        newItems.forEach(itemSearchIndex::index);
+        log.info("Пользователем с id={} добавлено вещей: {}", userId, newItems.size());
+
+        return newItems.stream()
+                .map(ItemMapper::toItemDto)
+                .collect(Collectors.toList());
+    }
+
     @Override
     @Transactional
     public ItemDto updateItem(long userId, long itemId, ItemDto itemDto) {
-        getUser(userId);
+        userIdIndex.checkExists(userId);
         Item oldItem = getItem(itemId);
         long ownerId = oldItem.getOwner();
         if (userId != ownerId) {
@@ -83,6 +110,7 @@ public class ItemServiceImpl implements ItemService {
         }
         Item item = ItemMapper.toItem(itemDto);
         item.setId(itemId);
+        item.setVersion(oldItem.getVersion());
         item.setOwner(userId);
         if (item.getName() == null) {
             item.setName(oldItem.getName());
@@ -94,7 +122,9 @@ public class ItemServiceImpl implements ItemService {
             item.setAvailable(oldItem.getAvailable());
         }
         Item updatedItem = itemRepository.save(item);
-        log.info("Владельцем обновлена вещь: {}", updatedItem);
+        itemSearchIndex.index(updatedItem);
+        log.info("Владельцем обновлена вещь с id={}", updatedItem.getId());
+        log.debug("Обновленная вещь: {}", updatedItem);
 
         return ItemMapper.toItemDto(updatedItem);
     }
@@ -104,11 +134,17 @@ public class ItemServiceImpl implements ItemService {
         if (text.isBlank()) {
             return Collections.emptyList();
         }
-        List<ItemDto> foundItems = itemRepository.search(text, PageRequest.of(from / size, size))
-                .get()
-                .map(ItemMapper::toItemDto)
-                .collect(Collectors.toList());
-        log.info("Выполнен поиск по запросу: \"{}\". Найдены вещи: {}", text, foundItems);
+        List<ItemDto> foundItems;
+        if (itemSearchIndex.isReady()) {
+            foundItems = itemSearchIndex.search(text, from, size);
+        } else {
+            foundItems = itemRepository.search(escapeLike(text), OffsetPageRequest.of(from, size, Sort.unsorted()))
+                    .get()
+                    .map(ItemMapper::toItemDto)
+                    .collect(Collectors.toList());
+        }
+        log.info("Выполнен поиск по запросу: \"{}\", найдено вещей: {}", text, foundItems.size());
+        log.debug("Найденные вещи: {}", foundItems);
 
         return foundItems;
     }
@@ -118,10 +154,8 @@ public class ItemServiceImpl implements ItemService {
     public CommentDto addComment(long userId, long itemId, CommentDto commentDto) {
         User author = getUser(userId);
         Item item = getItem(itemId);
-        if (bookingRepository.findAllByItemId(itemId).stream()
-                .noneMatch(booking -> booking.getStatus() == Status.APPROVED &&
-                        booking.getEnd().isBefore(LocalDateTime.now()) &&
-                        booking.getBooker().getId() == userId)) {
+        if (!bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(userId, itemId, Status.APPROVED,
+                LocalDateTime.now())) {
             throw new ItemUnavailableException(String.format("Пользователь с id=%d не брал в аренду вещь с id=%d", userId, itemId));
         }
         Comment comment = CommentMapper.toComment(commentDto);
@@ -129,7 +163,9 @@ public class ItemServiceImpl implements ItemService {
         comment.setAuthor(author);
         comment.setCreated(LocalDateTime.now());
         Comment newComment = commentRepository.save(comment);
-        log.info("Пользователем с id={} добавлен комментарий к вещи с id={}: \"{}\"", userId, itemId, newComment.getText());
+        log.info("Пользователем с id={} добавлен комментарий с id={} к вещи с id={}",
+                userId, newComment.getId(), itemId);
+        log.debug("Текст комментария: \"{}\"", newComment.getText());
 
         return CommentMapper.toCommentDto(newComment);
     }
@@ -144,29 +180,77 @@ public class ItemServiceImpl implements ItemService {
                 .orElseThrow(() -> new ItemNotFoundException("Вещь с id=" + itemId + " не найдена."));
     }
 
-    private BookingInfoDto getLastBooking(List<Booking> bookings) {
-        Optional<Booking> booking = bookings.stream()
-                .filter(b -> b.getStart().isBefore(LocalDateTime.now()))
-                .filter(b -> b.getStatus() == Status.APPROVED)
-                .max(Comparator.comparing(Booking::getStart));
-
-        return booking.map(BookingMapper::toBookingInfoDto).orElse(null);
+    private BookingInfoDto getLastBooking(long itemId, LocalDateTime date) {
+        return bookingRepository.findFirstByItemIdAndStatusAndStartBeforeOrderByStartDesc(itemId, Status.APPROVED, date)
+                .map(BookingMapper::toBookingInfoDto)
+                .orElse(null);
     }
 
-    private BookingInfoDto getNextBooking(List<Booking> bookings) {
-        Optional<Booking> booking = bookings.stream()
-                .filter(b -> b.getStart().isAfter(LocalDateTime.now()))
-                .filter(b -> b.getStatus() == Status.APPROVED)
-                .min(Comparator.comparing(Booking::getStart));
+    private BookingInfoDto getNextBooking(long itemId, LocalDateTime date) {
+        return bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(itemId, Status.APPROVED, date)
+                .map(BookingMapper::toBookingInfoDto)
+                .orElse(null);
+    }
 
-        return booking.map(BookingMapper::toBookingInfoDto).orElse(null);
+    private Map<Long, BookingInfoDto> mapBookingsByItemId(List<Booking> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(
+                        booking -> booking.getItem().getId(),
+                        BookingMapper::toBookingInfoDto,
+                        (first, second) -> first
+                ));
     }
 
-    private ItemInfoDto mapItemToDto(Item item) {
-        List<CommentDto> comments = commentRepository.findAllByItemId(item.getId()).stream()
+    private List<CommentDto> mapCommentsToDto(List<Comment> comments) {
+        return comments.stream()
                 .map(CommentMapper::toCommentDto)
                 .collect(Collectors.toList());
-        List<Booking> bookings = bookingRepository.findAllByItemId(item.getId());
-        return ItemMapper.toItemInfoDto(item, getLastBooking(bookings), getNextBooking(bookings), comments);
+    }
+
+    private ItemInfoDto mapItemToDto(Item item, boolean withBookings) {
+        List<CommentDto> comments = mapCommentsToDto(commentRepository.findAllByItemId(item.getId()));
+        if (!withBookings) {
+            return ItemMapper.toItemInfoDto(item, null, null, comments);
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return ItemMapper.toItemInfoDto(
+                item,
+                getLastBooking(item.getId(), now),
+                getNextBooking(item.getId(), now),
+                comments
+        );
+    }
+
+    private List<ItemInfoDto> mapItemsToDto(List<Item> items) {
+        if (items.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Long> itemIds = items.stream()
+                .map(Item::getId)
+                .collect(Collectors.toList());
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, List<Comment>> comments = commentRepository.findAllByItemIdIn(itemIds).stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId()));
+        Map<Long, BookingInfoDto> lastBookings = mapBookingsByItemId(
+                bookingRepository.findAllLastByItemIdIn(itemIds, Status.APPROVED, now)
+        );
+        Map<Long, BookingInfoDto> nextBookings = mapBookingsByItemId(
+                bookingRepository.findAllNextByItemIdIn(itemIds, Status.APPROVED, now)
+        );
+
+        return items.stream()
+                .map(item -> ItemMapper.toItemInfoDto(
+                        item,
+                        lastBookings.get(item.getId()),
+                        nextBookings.get(item.getId()),
+                        mapCommentsToDto(comments.getOrDefault(item.getId(), Collections.emptyList()))
+                ))
+                .collect(Collectors.toList());
+    }
+
+    private static String escapeLike(String text) {
+        return text.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
     }
 }
\ No newline at end of file
@@ -3,14 +3,17 @@ package ru.practicum.shareit.item.dto;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import ru.practicum.shareit.booking.dto.BookingInfoDto;
+import ru.practicum.shareit.version.VersionedDto;
 
 import java.util.List;
 
 @Data
+@EqualsAndHashCode(callSuper = false)
 @AllArgsConstructor
 @Builder
-public class ItemInfoDto {
+public class ItemInfoDto extends VersionedDto {
     private Long id;
     private String name;
     private String description;
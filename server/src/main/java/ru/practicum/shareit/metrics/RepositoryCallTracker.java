@@ -0,0 +1,39 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.SpringProxy;
+import org.springframework.aop.framework.AopProxyUtils;
+
+@Aspect
+@RequiredArgsConstructor
+public class RepositoryCallTracker {
+    private final SqlStatementCounter counter;
+
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public Object track(ProceedingJoinPoint joinPoint) throws Throwable {
+        SqlStatements scope = counter.current();
+        if (scope == null) {
+            return joinPoint.proceed();
+        }
+        scope.enter(repository(joinPoint) + "." + joinPoint.getSignature().getName());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            scope.exit();
+        }
+    }
+
+    private static String repository(ProceedingJoinPoint joinPoint) {
+        Object target = joinPoint.getTarget();
+        if (target instanceof SpringProxy) {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(target);
+            if (interfaces.length > 0) {
+                return interfaces[0].getSimpleName();
+            }
+        }
+        return joinPoint.getSignature().getDeclaringType().getSimpleName();
+    }
+}
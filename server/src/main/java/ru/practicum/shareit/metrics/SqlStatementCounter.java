@@ -0,0 +1,42 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.lang.Nullable;
+
+public class SqlStatementCounter implements StatementInspector {
+    private final ThreadLocal<SqlStatements> current = new ThreadLocal<>();
+    private final Counter statements;
+
+    public SqlStatementCounter(MeterRegistry registry) {
+        this.statements = Counter.builder("shareit.sql.statements")
+                .description("Количество подготовленных SQL-запросов")
+                .register(registry);
+    }
+
+    @Override
+    public String inspect(String sql) {
+        statements.increment();
+        SqlStatements scope = current.get();
+        if (scope != null) {
+            scope.record();
+        }
+        return sql;
+    }
+
+    public void start() {
+        current.set(new SqlStatements());
+    }
+
+    public SqlStatements stop() {
+        SqlStatements scope = current.get();
+        current.remove();
+        return scope != null ? scope : new SqlStatements();
+    }
+
+    @Nullable
+    SqlStatements current() {
+        return current.get();
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.Getter;
+
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class SqlStatements {
+    private static final String OUTSIDE_REPOSITORY = "вне репозиториев";
+
+    private final Map<String, Long> byRepositoryMethod = new LinkedHashMap<>();
+    private final Deque<String> repositoryMethods = new ArrayDeque<>();
+    @Getter
+    private long count;
+
+    public Map<String, Long> getByRepositoryMethod() {
+        return Collections.unmodifiableMap(byRepositoryMethod);
+    }
+
+    void record() {
+        count++;
+        byRepositoryMethod.merge(repositoryMethods.isEmpty() ? OUTSIDE_REPOSITORY : repositoryMethods.peek(),
+                1L, Long::sum);
+    }
+
+    void enter(String repositoryMethod) {
+        repositoryMethods.push(repositoryMethod);
+    }
+
+    void exit() {
+        repositoryMethods.pop();
+    }
+
+    @Override
+    public String toString() {
+        return count + " " + byRepositoryMethod;
+    }
+}
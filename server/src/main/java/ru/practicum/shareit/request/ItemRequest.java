@@ -2,6 +2,7 @@ package ru.practicum.shareit.request;
 
 import lombok.*;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.version.VersionedEntity;
 
 import javax.persistence.*;
 import java.time.LocalDateTime;
@@ -14,9 +15,10 @@ import java.util.Objects;
 @NoArgsConstructor
 @Entity
 @Table(name = "requests")
-public class ItemRequest {
+public class ItemRequest extends VersionedEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "requests_seq")
+    @SequenceGenerator(name = "requests_seq", sequenceName = "requests_seq", allocationSize = 50)
     private Long id;
     @Column(name = "description", nullable = false, length = 512)
     private String description;
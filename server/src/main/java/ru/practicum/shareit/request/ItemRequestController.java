@@ -3,6 +3,7 @@ package ru.practicum.shareit.request;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.util.List;
@@ -23,9 +24,15 @@ public class ItemRequestController {
     }
 
     @GetMapping
-    public List<ItemRequestDto> getRequests(@RequestHeader(USER_ID_HEADER) long userId) {
-        log.info("Получен запрос GET /requests");
-        return itemRequestService.getUserRequests(userId);
+    public List<ItemRequestDto> getRequests(@RequestHeader(USER_ID_HEADER) long userId,
+                                            @RequestParam(defaultValue = "0") int from,
+                                            @RequestParam(required = false) Integer size) {
+        if (size == null) {
+            log.info("Получен запрос GET /requests");
+            return itemRequestService.getUserRequests(userId);
+        }
+        log.info("Получен запрос GET /requests?from={}&size={}", from, size);
+        return itemRequestService.getUserRequests(userId, from, size);
     }
 
     @GetMapping("/all")
@@ -38,8 +45,10 @@ public class ItemRequestController {
 
     @GetMapping("/{requestId}")
     public ItemRequestDto getRequestById(@RequestHeader(USER_ID_HEADER) long userId,
-                                         @PathVariable long requestId) {
+                                         @PathVariable long requestId,
+                                         WebRequest request) {
         log.info("Получен запрос GET /requests/{}", requestId);
-        return itemRequestService.getRequestById(userId, requestId);
+        ItemRequestDto itemRequest = itemRequestService.getRequestById(userId, requestId);
+        return request.checkNotModified(itemRequest.getEtag()) ? null : itemRequest;
     }
 }
\ No newline at end of file
@@ -1,13 +1,15 @@
 package ru.practicum.shareit.request;
 
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
-    List<ItemRequest> findAllByRequesterId(Long userId);
+    List<ItemRequest> findAllByRequesterIdOrderByCreatedDescIdDesc(Long userId);
 
-    Page<ItemRequest> findAllByRequesterIdIsNot(Long userId, Pageable page);
+    Slice<ItemRequest> findAllByRequesterIdOrderByCreatedDescIdDesc(Long userId, Pageable page);
+
+    Slice<ItemRequest> findAllByRequesterIdIsNot(Long userId, Pageable page);
 }
\ No newline at end of file
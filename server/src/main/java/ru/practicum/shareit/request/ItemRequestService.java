@@ -9,6 +9,8 @@ public interface ItemRequestService {
 
     List<ItemRequestDto> getUserRequests(long userId);
 
+    List<ItemRequestDto> getUserRequests(long userId, int from, int size);
+
     List<ItemRequestDto> getAllRequests(long userId, int from, int size);
 
     ItemRequestDto getRequestById(long userId, long requestId);
@@ -1,32 +1,39 @@
 package ru.practicum.shareit.request;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.RequestNotFoundException;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserIdIndex;
 import ru.practicum.shareit.user.UserRepository;
+import ru.practicum.shareit.version.ETags;
 
-import java.util.Comparator;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class ItemRequestServiceImpl implements ItemRequestService {
     private final ItemRequestRepository itemRequestRepository;
     private final UserRepository userRepository;
+    private final UserIdIndex userIdIndex;
     private final ItemRepository itemRepository;
 
     @Override
@@ -36,42 +43,61 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         ItemRequest itemRequest = ItemRequestMapper.toItemRequest(itemRequestDto);
         itemRequest.setRequester(user);
         ItemRequest newRequest = itemRequestRepository.save(itemRequest);
-        log.info("Пользователем с id={} добавлен запрос: {}", userId, newRequest);
+        log.info("Пользователем с id={} добавлен запрос с id={}", userId, newRequest.getId());
+        log.debug("Добавленный запрос: {}", newRequest);
 
         return ItemRequestMapper.toItemRequestDto(newRequest);
     }
 
     @Override
     public List<ItemRequestDto> getUserRequests(long userId) {
-        getUser(userId);
-        List<ItemRequestDto> requests = itemRequestRepository.findAllByRequesterId(userId).stream()
-                .map(this::mapItemRequestToDto)
-                .sorted(Comparator.comparing(ItemRequestDto::getCreated).reversed())
-                .collect(Collectors.toList());
-        log.info("Возвращен список всех запросов пользователя с id={}: {}", userId, requests);
+        userIdIndex.checkExists(userId);
+        List<ItemRequestDto> requests = mapItemRequestsToDto(
+                itemRequestRepository.findAllByRequesterIdOrderByCreatedDescIdDesc(userId)
+        );
+        log.info("Возвращен список всех запросов пользователя с id={}, количество: {}", userId, requests.size());
+        log.debug("Список запросов: {}", requests);
+
+        return requests;
+    }
+
+    @Override
+    public List<ItemRequestDto> getUserRequests(long userId, int from, int size) {
+        userIdIndex.checkExists(userId);
+        List<ItemRequestDto> requests = mapItemRequestsToDto(
+                itemRequestRepository.findAllByRequesterIdOrderByCreatedDescIdDesc(
+                        userId,
+                        OffsetPageRequest.of(from, size, Sort.unsorted())
+                ).getContent()
+        );
+        log.info("Возвращен список запросов пользователя с id={} (from={}, size={}), количество: {}",
+                userId, from, size, requests.size());
+        log.debug("Список запросов: {}", requests);
 
         return requests;
     }
 
     @Override
     public List<ItemRequestDto> getAllRequests(long userId, int from, int size) {
-        getUser(userId);
-        List<ItemRequestDto> requests = itemRequestRepository.findAllByRequesterIdIsNot(
+        userIdIndex.checkExists(userId);
+        List<ItemRequestDto> requests = mapItemRequestsToDto(
+                itemRequestRepository.findAllByRequesterIdIsNot(
                         userId,
-                        PageRequest.of(from / size, size, Sort.by(Sort.Direction.DESC, "created"))
-                ).get()
-                .map(this::mapItemRequestToDto)
-                .collect(Collectors.toList());
-        log.info("Возвращен список всех запросов (from={}, size={}): {}", from, size, requests);
+                        OffsetPageRequest.of(from, size, Sort.by(Sort.Direction.DESC, "created", "id"))
+                ).getContent()
+        );
+        log.info("Возвращен список всех запросов (from={}, size={}), количество: {}", from, size, requests.size());
+        log.debug("Список запросов: {}", requests);
 
         return requests;
     }
 
     @Override
     public ItemRequestDto getRequestById(long userId, long requestId) {
-        getUser(userId);
+        userIdIndex.checkExists(userId);
         ItemRequestDto requestDto = mapItemRequestToDto(getItemRequest(requestId));
-        log.info("Возвращен запрос с id={}: {}", requestId, requestDto);
+        log.info("Возвращен запрос с id={}", requestId);
+        log.debug("Запрос: {}", requestDto);
 
         return requestDto;
     }
@@ -87,9 +113,33 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     }
 
     private ItemRequestDto mapItemRequestToDto(ItemRequest itemRequest) {
-        List<ItemDto> items = itemRepository.findAllByRequest(itemRequest.getId()).stream()
+        List<Item> items = itemRepository.findAllByRequest(itemRequest.getId());
+        ItemRequestDto requestDto = ItemRequestMapper.toItemRequestDto(itemRequest, items.stream()
                 .map(ItemMapper::toItemDto)
+                .collect(Collectors.toList()));
+        requestDto.setEtag(ETags.of(itemRequest.getId(), itemRequest.getVersion(), items.stream()
+                .map(item -> item.getId() + "." + item.getVersion())
+                .collect(Collectors.toList())));
+        return requestDto;
+    }
+
+    private List<ItemRequestDto> mapItemRequestsToDto(List<ItemRequest> itemRequests) {
+        if (itemRequests.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<Long> requestIds = itemRequests.stream()
+                .map(ItemRequest::getId)
+                .collect(Collectors.toList());
+        Map<Long, List<ItemDto>> itemsByRequestId = itemRepository.findAllByRequestIn(requestIds).stream()
+                .collect(Collectors.groupingBy(
+                        Item::getRequest,
+                        Collectors.mapping(ItemMapper::toItemDto, Collectors.toList())
+                ));
+        return itemRequests.stream()
+                .map(itemRequest -> ItemRequestMapper.toItemRequestDto(
+                        itemRequest,
+                        itemsByRequestId.getOrDefault(itemRequest.getId(), Collections.emptyList())
+                ))
                 .collect(Collectors.toList());
-        return ItemRequestMapper.toItemRequestDto(itemRequest, items);
     }
 }
\ No newline at end of file
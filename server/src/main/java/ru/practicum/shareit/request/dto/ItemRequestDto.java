@@ -3,15 +3,18 @@ package ru.practicum.shareit.request.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.version.VersionedDto;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
+@EqualsAndHashCode(callSuper = false)
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class ItemRequestDto {
+public class ItemRequestDto extends VersionedDto {
     private Long id;
     private String description;
     private Long requester;
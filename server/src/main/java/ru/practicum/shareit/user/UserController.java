@@ -3,6 +3,7 @@ package ru.practicum.shareit.user;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import ru.practicum.shareit.user.dto.UserDto;
 
 import java.util.List;
@@ -21,9 +22,10 @@ public class UserController {
     }
 
     @GetMapping("/{userId}")
-    public UserDto getUserById(@PathVariable long userId) {
+    public UserDto getUserById(@PathVariable long userId, WebRequest request) {
         log.info("Получен запрос GET /users/{}", userId);
-        return userService.getUserById(userId);
+        UserDto user = userService.getUserById(userId);
+        return request.checkNotModified(user.getEtag()) ? null : user;
     }
 
     @PostMapping
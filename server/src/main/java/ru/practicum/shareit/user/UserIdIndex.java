@@ -0,0 +1,71 @@
+package ru.practicum.shareit.user;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.exception.UserNotFoundException;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class UserIdIndex {
+    private final UserRepository userRepository;
+    private final Set<Long> ids;
+    private final AtomicLong removals = new AtomicLong();
+
+    @Autowired
+    public UserIdIndex(UserRepository userRepository,
+                       @Value("${shareit.user-ids.maximum-size:100000}") long maximumSize,
+                       @Value("${shareit.user-ids.expire-after-write:1m}") Duration expireAfterWrite) {
+        this(userRepository, maximumSize, expireAfterWrite, Ticker.systemTicker());
+    }
+
+    UserIdIndex(UserRepository userRepository, long maximumSize, Duration expireAfterWrite, Ticker ticker) {
+        this.userRepository = userRepository;
+        this.ids = Collections.newSetFromMap(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .ticker(ticker)
+                .<Long, Boolean>build()
+                .asMap());
+    }
+
+    public void checkExists(long userId) {
+        if (ids.contains(userId)) {
+            return;
+        }
+        long loadedRemovals = removals.get();
+        if (!userRepository.existsById(userId)) {
+            throw new UserNotFoundException("Пользователь с id=" + userId + " не найден.");
+        }
+        synchronized (this) {
+            if (removals.get() == loadedRemovals) {
+                ids.add(userId);
+            }
+        }
+    }
+
+    public void remove(long userId) {
+        removeNow(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    removeNow(userId);
+                }
+            });
+        }
+    }
+
+    private synchronized void removeNow(long userId) {
+        removals.incrementAndGet();
+        ids.remove(userId);
+    }
+}
@@ -1,29 +1,41 @@
 package ru.practicum.shareit.user;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemSearchIndex;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
+import ru.practicum.shareit.version.ETags;
 
+import javax.persistence.EntityManagerFactory;
 import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
+@Timed(value = "shareit.service", histogram = true)
 @RequiredArgsConstructor
 @Slf4j
 public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
+    private final UserIdIndex userIdIndex;
+    private final ItemSearchIndex itemSearchIndex;
+    private final EntityManagerFactory entityManagerFactory;
 
     @Override
     public List<UserDto> getAllUsers() {
         List<UserDto> users = userRepository.findAll().stream()
                 .map(UserMapper::toUserDto)
                 .collect(Collectors.toList());
-        log.info("Возвращен список пользователей: {}", users);
+        log.info("Возвращен список пользователей, количество: {}", users.size());
+        log.debug("Список пользователей: {}", users);
 
         return users;
     }
@@ -31,9 +43,12 @@ public class UserServiceImpl implements UserService {
     @Override
     public UserDto getUserById(long userId) {
         User user = getUser(userId);
-        log.info("Возвращен пользователь: {}", user);
+        log.info("Возвращен пользователь с id={}", userId);
+        log.debug("Пользователь: {}", user);
+        UserDto userDto = UserMapper.toUserDto(user);
+        userDto.setEtag(ETags.of(user.getId(), user.getVersion()));
 
-        return UserMapper.toUserDto(user);
+        return userDto;
     }
 
     @Override
@@ -41,7 +56,8 @@ public class UserServiceImpl implements UserService {
     public UserDto createUser(UserDto userDto) {
         User user = UserMapper.toUser(userDto);
         User newUser = userRepository.save(user);
-        log.info("Добавлен пользователь: {}", newUser);
+        log.info("Добавлен пользователь с id={}", newUser.getId());
+        log.debug("Добавленный пользователь: {}", newUser);
 
         return UserMapper.toUserDto(newUser);
     }
@@ -52,6 +68,7 @@ public class UserServiceImpl implements UserService {
         User oldUser = getUser(userId);
         User user = UserMapper.toUser(userDto);
         user.setId(userId);
+        user.setVersion(oldUser.getVersion());
         if (user.getEmail() == null) {
             user.setEmail(oldUser.getEmail());
         }
@@ -59,7 +76,8 @@ public class UserServiceImpl implements UserService {
             user.setName(oldUser.getName());
         }
         User updatedUser = userRepository.save(user);
-        log.info("Обновлен пользователь: {}", updatedUser);
+        log.info("Обновлен пользователь с id={}", updatedUser.getId());
+        log.debug("Обновленный пользователь: {}", updatedUser);
 
         return UserMapper.toUserDto(updatedUser);
     }
@@ -69,9 +87,25 @@ public class UserServiceImpl implements UserService {
     public void deleteUser(long userId) {
         getUser(userId);
         userRepository.deleteById(userId);
+        userIdIndex.remove(userId);
+        itemSearchIndex.removeByOwner(userId);
+        evictItemsAfterCommit();
         log.info("Удален пользователь с id={}", userId);
     }
 
+    private void evictItemsAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    entityManagerFactory.getCache().evict(Item.class);
+                }
+            });
+        } else {
+            entityManagerFactory.getCache().evict(Item.class);
+        }
+    }
+
     private User getUser(long userId) {
         return userRepository.findById(userId)
                 .orElseThrow(() -> new UserNotFoundException("Пользователь с id=" + userId + " не найден."));
@@ -3,11 +3,14 @@ package ru.practicum.shareit.user.dto;
 import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import ru.practicum.shareit.version.VersionedDto;
 
 @Data
+@EqualsAndHashCode(callSuper = false)
 @AllArgsConstructor
 @JsonInclude(JsonInclude.Include.NON_NULL)
-public class UserDto {
+public class UserDto extends VersionedDto {
     private Long id;
     private String name;
     private String email;
@@ -0,0 +1,12 @@
+package ru.practicum.shareit.version;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public abstract class VersionedDto {
+    @JsonIgnore
+    private String etag;
+}
@@ -0,0 +1,17 @@
+package ru.practicum.shareit.version;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.Column;
+import javax.persistence.MappedSuperclass;
+import javax.persistence.Version;
+
+@Getter
+@Setter
+@MappedSuperclass
+public abstract class VersionedEntity {
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+}
@@ -1,14 +1,4 @@
-DROP TABLE IF EXISTS requests CASCADE;
-
-DROP TABLE IF EXISTS bookings CASCADE;
-
-DROP TABLE IF EXISTS comments CASCADE;
-
-DROP TABLE IF EXISTS items CASCADE;
-
-DROP TABLE IF EXISTS users CASCADE;
-
-CREATE TABLE IF NOT EXISTS users (
+CREATE TABLE users (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     name VARCHAR(255) NOT NULL,
     email VARCHAR(512) NOT NULL,
@@ -16,7 +6,7 @@ CREATE TABLE IF NOT EXISTS users (
     CONSTRAINT UQ_USER_EMAIL UNIQUE (email)
 );
 
-CREATE TABLE IF NOT EXISTS requests (
+CREATE TABLE requests (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     description VARCHAR(512) NOT NULL,
     requester_id BIGINT NOT NULL,
@@ -25,7 +15,7 @@ CREATE TABLE IF NOT EXISTS requests (
     CONSTRAINT fk_request_user FOREIGN KEY (requester_id) REFERENCES users ON DELETE CASCADE
 );
 
-CREATE TABLE IF NOT EXISTS items (
+CREATE TABLE items (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     name VARCHAR(255) NOT NULL,
     description VARCHAR(512) NOT NULL,
@@ -36,7 +26,7 @@ CREATE TABLE IF NOT EXISTS items (
     CONSTRAINT fk_item_user FOREIGN KEY (owner_id) REFERENCES users ON DELETE CASCADE
 );
 
-CREATE TABLE IF NOT EXISTS bookings (
+CREATE TABLE bookings (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     start_time TIMESTAMP NOT NULL,
     end_time TIMESTAMP NOT NULL,
@@ -48,7 +38,7 @@ CREATE TABLE IF NOT EXISTS bookings (
     CONSTRAINT fk_booking_user FOREIGN KEY (booker_id) REFERENCES users ON DELETE CASCADE
 );
 
-CREATE TABLE IF NOT EXISTS comments (
+CREATE TABLE comments (
     id BIGINT GENERATED BY DEFAULT AS IDENTITY NOT NULL,
     text VARCHAR(512) NOT NULL,
     item_id BIGINT NOT NULL,
@@ -0,0 +1,13 @@
+DROP INDEX idx_bookings_booker_start;
+
+CREATE INDEX idx_bookings_booker_start_id ON bookings (booker_id, start_time DESC, id DESC);
+
+ALTER TABLE bookings ADD COLUMN item_owner_id BIGINT;
+
+UPDATE bookings SET item_owner_id = (SELECT owner_id FROM items WHERE items.id = bookings.item_id);
+
+ALTER TABLE bookings ALTER COLUMN item_owner_id SET NOT NULL;
+
+CREATE INDEX idx_bookings_item_owner_start_id ON bookings (item_owner_id, start_time DESC, id DESC);
+
+CREATE INDEX idx_bookings_item_owner_status_start ON bookings (item_owner_id, status, start_time DESC, id DESC);
\ No newline at end of file
@@ -0,0 +1 @@
+CREATE INDEX idx_requests_created ON requests (created DESC, id DESC);
\ No newline at end of file
@@ -0,0 +1,10 @@
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+CREATE INDEX idx_items_name_trgm ON items USING gin (lower(name) gin_trgm_ops) WHERE available;
+
+CREATE INDEX idx_items_description_trgm ON items USING gin (lower(description) gin_trgm_ops) WHERE available;
+
+ALTER TABLE bookings ADD CONSTRAINT excl_bookings_approved_overlap
+    EXCLUDE USING gist (item_id WITH =, tsrange(start_time, end_time) WITH &&) WHERE (status = 'APPROVED');
\ No newline at end of file
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
@@ -13,6 +14,7 @@ import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -85,6 +87,18 @@ class BookingControllerTest {
         verify(bookingService).approveBooking(1, 1, true);
     }
 
+    @Test
+    @SneakyThrows
+    void approveBooking_withConcurrentUpdate_shouldReturnConflict() {
+        when(bookingService.approveBooking(1, 1, true))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Booking.class, 1L));
+
+        mvc.perform(patch(BOOKINGS_PATH + "/1")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("approved", "true"))
+                .andExpect(status().isConflict());
+    }
+
     @Test
     @SneakyThrows
     void approveBooking_withoutUserId_shouldReturnBadRequest() {
@@ -108,6 +122,8 @@ class BookingControllerTest {
     @Test
     @SneakyThrows
     void getBooking_withUserId_shouldReturnOk() {
+        when(bookingService.getBooking(1, 1)).thenReturn(BookingDto.builder().id(1L).build());
+
         mvc.perform(get(BOOKINGS_PATH + "/1")
                         .header("X-Sharer-User-Id", 1))
                 .andExpect(status().isOk());
@@ -170,4 +186,69 @@ class BookingControllerTest {
 
         verify(bookingService, never()).getUserItemsBookings(anyLong(), any(State.class), anyInt(), anyInt());
     }
+
+    @Test
+    @SneakyThrows
+    void getUserBookings_withFullPage_shouldReturnNextCursor() {
+        BookingDto booking = new BookingDto(
+                2L,
+                LocalDateTime.of(2030, 1, 1, 12, 0),
+                LocalDateTime.of(2030, 1, 2, 12, 0),
+                new BookingDto.Item(1L, "item1"),
+                new BookingDto.Booker(1L, "user1"),
+                Status.APPROVED
+        );
+        BookingCursor cursor = new BookingCursor(LocalDateTime.of(2030, 2, 1, 12, 0), 5L);
+        when(bookingService.getUserBookings(1, State.ALL, cursor, 1)).thenReturn(List.of(booking));
+
+        String nextCursor = mvc.perform(get(BOOKINGS_PATH)
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "ALL")
+                        .param("size", "1")
+                        .param("cursor", cursor.encode()))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("X-Next-Cursor");
+
+        assertEquals(BookingCursor.of(booking), BookingCursor.decode(nextCursor));
+    }
+
+    @Test
+    @SneakyThrows
+    void getUserItemsBookings_withInvalidCursor_shouldReturnBadRequest() {
+        mvc.perform(get(BOOKINGS_PATH + "/owner")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("size", "10")
+                        .param("cursor", "qwerty"))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("X-Next-Cursor"));
+
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    @SneakyThrows
+    void getUserBookings_withFromAndCursor_shouldReturnBadRequest() {
+        BookingCursor cursor = new BookingCursor(LocalDateTime.of(2030, 2, 1, 12, 0), 5L);
+
+        mvc.perform(get(BOOKINGS_PATH)
+                        .header("X-Sharer-User-Id", 1)
+                        .param("state", "ALL")
+                        .param("from", "0")
+                        .param("size", "10")
+                        .param("cursor", cursor.encode()))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bookingService);
+    }
+
+    @Test
+    @SneakyThrows
+    void getUserItemsBookings_withoutFromAndCursor_shouldReturnBadRequest() {
+        mvc.perform(get(BOOKINGS_PATH + "/owner")
+                        .header("X-Sharer-User-Id", 1)
+                        .param("size", "10"))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bookingService);
+    }
 }
\ No newline at end of file
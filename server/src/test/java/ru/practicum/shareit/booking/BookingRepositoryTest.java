@@ -1,5 +1,6 @@
 package ru.practicum.shareit.booking;
 
+import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -14,9 +15,12 @@ import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.user.User;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @DataJpaTest
 @AutoConfigureTestDatabase
@@ -40,6 +44,7 @@ class BookingRepositoryTest {
 
     @BeforeEach
     void beforeEach() {
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
         user1 = new User(null, "user1", "user1@test.com");
         user2 = new User(null, "user2", "user2@test.com");
         user3 = new User(null, "user3", "user3@test.com");
@@ -48,32 +53,32 @@ class BookingRepositoryTest {
         item3 = new Item(null, "item3", "third test item", 1L, false, 1L);
         booking1 = new Booking(
                 null,
-                LocalDateTime.now().plusMinutes(5),
-                LocalDateTime.now().plusMinutes(10),
+                now.plusMinutes(5),
+                now.plusMinutes(10),
                 item1,
                 user3,
                 Status.WAITING
         );
         booking2 = new Booking(
                 null,
-                LocalDateTime.now().minusMinutes(5),
-                LocalDateTime.now().plusMinutes(5),
+                now.minusMinutes(5),
+                now.plusMinutes(5),
                 item2,
                 user3,
                 Status.APPROVED
         );
         booking3 = new Booking(
                 null,
-                LocalDateTime.now().minusMinutes(5),
-                LocalDateTime.now().plusMinutes(5),
+                now.minusMinutes(5),
+                now.plusMinutes(5),
                 item1,
                 user2,
                 Status.APPROVED
         );
         booking4 = new Booking(
                 null,
-                LocalDateTime.now().minusMinutes(3),
-                LocalDateTime.now().plusMinutes(7),
+                now.minusMinutes(3),
+                now.plusMinutes(7),
                 item3,
                 user3,
                 Status.APPROVED
@@ -147,4 +152,181 @@ class BookingRepositoryTest {
         assertEquals(user2, bookings.get(1).getBooker());
         assertEquals(Status.APPROVED, bookings.get(1).getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findAllLastByItemIdIn_shouldReturnLatestStartedApprovedBookingForEachItem() {
+        em.persist(user1);
+        em.persist(user2);
+        em.persist(user3);
+        em.persist(item1);
+        em.persist(item2);
+        em.persist(item3);
+        em.persist(booking1);
+        em.persist(booking2);
+        em.persist(booking3);
+        em.persist(booking4);
+
+        List<Booking> bookings = bookingRepository.findAllLastByItemIdIn(
+                List.of(1L, 2L),
+                Status.APPROVED,
+                LocalDateTime.now()
+        );
+
+        assertEquals(2, bookings.size());
+        assertTrue(bookings.stream().anyMatch(booking -> booking.getId() == 2L));
+        assertTrue(bookings.stream().anyMatch(booking -> booking.getId() == 3L));
+    }
+
+    @Test
+    void findAllNextByItemIdIn_shouldReturnEarliestFutureApprovedBookingForEachItem() {
+        booking1.setStatus(Status.APPROVED);
+        em.persist(user1);
+        em.persist(user2);
+        em.persist(user3);
+        em.persist(item1);
+        em.persist(item2);
+        em.persist(item3);
+        em.persist(booking1);
+        em.persist(booking2);
+        em.persist(booking3);
+        em.persist(booking4);
+
+        List<Booking> bookings = bookingRepository.findAllNextByItemIdIn(
+                List.of(1L, 2L, 3L),
+                Status.APPROVED,
+                LocalDateTime.now()
+        );
+
+        assertEquals(1, bookings.size());
+        assertEquals(1L, bookings.get(0).getId());
+        assertEquals(item1, bookings.get(0).getItem());
+    }
+
+    @Test
+    void existsOverlapping_shouldDetectOnlyIntersectingApprovedBookings() {
+        em.persist(user1);
+        em.persist(user2);
+        em.persist(user3);
+        em.persist(item1);
+        em.persist(item2);
+        em.persist(item3);
+        em.persist(booking1);
+        em.persist(booking2);
+        em.persist(booking3);
+        em.persist(booking4);
+
+        assertTrue(bookingRepository.existsOverlapping(
+                1L,
+                Status.APPROVED,
+                booking3.getStart().plusMinutes(1),
+                booking3.getEnd().plusMinutes(1)
+        ));
+        assertFalse(bookingRepository.existsOverlapping(
+                1L,
+                Status.APPROVED,
+                booking3.getEnd(),
+                booking3.getEnd().plusMinutes(5)
+        ));
+        assertFalse(bookingRepository.existsOverlapping(
+                1L,
+                Status.APPROVED,
+                booking1.getStart().plusMinutes(1),
+                booking1.getEnd()
+        ));
+    }
+
+    @Test
+    void existsByBookerIdAndItemIdAndStatusAndEndBefore_shouldMatchOnlyFinishedApprovedBookingsOfBooker() {
+        LocalDateTime now = LocalDateTime.now();
+        Booking finished = new Booking(null, now.minusMinutes(20), now.minusMinutes(10), item1, user2,
+                Status.APPROVED);
+        Booking rejected = new Booking(null, now.minusMinutes(20), now.minusMinutes(10), item1, user3,
+                Status.REJECTED);
+        em.persist(user1);
+        em.persist(user2);
+        em.persist(user3);
+        em.persist(item1);
+        em.persist(item2);
+        em.persist(item3);
+        em.persist(booking1);
+        em.persist(booking2);
+        em.persist(booking3);
+        em.persist(finished);
+        em.persist(rejected);
+
+        assertTrue(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(
+                user2.getId(), item1.getId(), Status.APPROVED, now));
+        assertFalse(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(
+                user3.getId(), item1.getId(), Status.APPROVED, now));
+        assertFalse(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(
+                user3.getId(), item2.getId(), Status.APPROVED, now));
+        assertFalse(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(
+                user1.getId(), item1.getId(), Status.APPROVED, now));
+    }
+
+    @Test
+    void seekByBookerId_shouldReturnBookingsAfterCursorNewestFirst() {
+        em.persist(user1);
+        em.persist(user2);
+        em.persist(user3);
+        em.persist(item1);
+        em.persist(item2);
+        em.persist(item3);
+        em.persist(booking1);
+        em.persist(booking2);
+        em.persist(booking3);
+        em.persist(booking4);
+
+        List<Booking> bookings = bookingRepository.seekByBookerId(
+                3L,
+                booking1.getStart(),
+                booking1.getId(),
+                PageRequest.of(0, 10)
+        );
+
+        assertEquals(List.of(booking4, booking2), bookings);
+    }
+
+    @Test
+    void findAllByItemOwner_shouldFetchItemAndBooker() {
+        em.persist(user1);
+        em.persist(user2);
+        em.persist(user3);
+        em.persist(item1);
+        em.persist(item2);
+        em.persist(item3);
+        em.persist(booking1);
+        em.persist(booking2);
+        em.persist(booking3);
+        em.persist(booking4);
+        em.flush();
+        em.clear();
+
+        List<Booking> bookings = bookingRepository.findAllByItemOwner(
+                1L,
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "start"))
+        ).getContent();
+
+        assertEquals(3, bookings.size());
+        bookings.forEach(booking -> {
+            assertTrue(Hibernate.isInitialized(booking.getItem()));
+            assertTrue(Hibernate.isInitialized(booking.getBooker()));
+        });
+    }
+
+    @Test
+    void persist_shouldStoreItemOwner() {
+        em.persist(user1);
+        em.persist(user2);
+        em.persist(user3);
+        em.persist(item1);
+        em.persist(item2);
+        em.persist(booking1);
+        em.persist(booking2);
+        em.flush();
+        em.clear();
+
+        assertEquals(item1.getOwner(), em.find(Booking.class, booking1.getId()).getItemOwner());
+        assertEquals(item2.getOwner(), em.find(Booking.class, booking2.getId()).getItemOwner());
+    }
+}
@@ -6,11 +6,17 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
 import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.metrics.SqlStatementCounter;
 import ru.practicum.shareit.user.User;
 
 import javax.persistence.EntityManager;
@@ -20,6 +26,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static ru.practicum.shareit.metrics.SqlStatementAssertions.assertConstantStatements;
 
 @Transactional
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -29,6 +36,8 @@ import static org.junit.jupiter.api.Assertions.*;
 class BookingServiceIT {
     private final EntityManager em;
     private final BookingService bookingService;
+    private final SqlStatementCounter sqlStatementCounter;
+    private final PlatformTransactionManager transactionManager;
     private User user1;
     private User user2;
     private Item item1;
@@ -99,6 +108,31 @@ class BookingServiceIT {
         assertEquals(Status.APPROVED, booking.getStatus());
     }
 
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void approveBooking_withConcurrentStaleUpdate_shouldFailWithOptimisticLock() {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        TransactionTemplate concurrentTransaction = new TransactionTemplate(transactionManager);
+        concurrentTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> {
+            em.persist(user1);
+            em.persist(user2);
+            item1.setOwner(user1.getId());
+            em.persist(item1);
+            em.persist(booking1);
+        });
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> transaction.executeWithoutResult(status -> {
+            bookingService.approveBooking(user1.getId(), booking1.getId(), true);
+            concurrentTransaction.executeWithoutResult(concurrentStatus ->
+                    bookingService.approveBooking(user1.getId(), booking1.getId(), false));
+        }));
+
+        Booking booking = transaction.execute(status -> em.find(Booking.class, booking1.getId()));
+        assertEquals(Status.REJECTED, booking.getStatus());
+        assertEquals(1L, booking.getVersion());
+    }
+
     @Test
     void getBooking() {
         em.persist(user1);
@@ -191,4 +225,29 @@ class BookingServiceIT {
         assertEquals("user2", bookings.get(1).getBooker().getName());
         assertEquals(Status.APPROVED, bookings.get(1).getStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getUserBookings_withMoreBookedItems_shouldExecuteSameNumberOfStatements() {
+        em.persist(user1);
+        em.persist(user2);
+
+        assertConstantStatements(sqlStatementCounter, em, this::persistBookedItem,
+                () -> bookingService.getUserBookings(user2.getId(), State.ALL, 0, 10));
+    }
+
+    @Test
+    void getUserItemsBookings_withMoreBookedItems_shouldExecuteSameNumberOfStatements() {
+        em.persist(user1);
+        em.persist(user2);
+
+        assertConstantStatements(sqlStatementCounter, em, this::persistBookedItem,
+                () -> bookingService.getUserItemsBookings(user1.getId(), State.ALL, 0, 10));
+    }
+
+    private void persistBookedItem(int number) {
+        Item item = new Item(null, "item" + number, "item for test", user1.getId(), true, 0L);
+        em.persist(item);
+        em.persist(new Booking(null, LocalDateTime.now().plusMinutes(number), LocalDateTime.now().plusHours(number),
+                item, em.getReference(User.class, user2.getId()), Status.APPROVED));
+    }
+}
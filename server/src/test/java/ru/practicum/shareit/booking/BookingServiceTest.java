@@ -6,8 +6,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.booking.dto.BookingCreationDto;
 import ru.practicum.shareit.booking.dto.BookingDto;
@@ -15,11 +16,14 @@ import ru.practicum.shareit.booking.dto.BookingMapper;
 import ru.practicum.shareit.exception.*;
 import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserIdIndex;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -33,6 +37,8 @@ class BookingServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserIdIndex userIdIndex;
+    @Mock
     private ItemRepository itemRepository;
     @Mock
     private BookingRepository bookingRepository;
@@ -147,6 +153,23 @@ class BookingServiceTest {
         assertEquals("Вещь с id=2 недоступна.", ex.getMessage());
     }
 
+    @Test
+    public void addBookingOverlappingApprovedBooking_shouldThrowException() {
+        when(userRepository.findById(user1.getId()))
+                .thenReturn(Optional.ofNullable(user1));
+        when(itemRepository.findById(item1.getId()))
+                .thenReturn(Optional.ofNullable(item1));
+        when(bookingRepository.existsOverlapping(item1.getId(), Status.APPROVED,
+                bookingCreationDto1.getStart(), bookingCreationDto1.getEnd()))
+                .thenReturn(true);
+
+        Throwable ex = assertThrows(ItemUnavailableException.class,
+                () -> bookingService.addBooking(user1.getId(), bookingCreationDto1));
+        assertEquals("Вещь с id=1 уже забронирована на период с " + bookingCreationDto1.getStart() +
+                " по " + bookingCreationDto1.getEnd() + ".", ex.getMessage());
+        verify(bookingRepository, never()).save(any(Booking.class));
+    }
+
     @Test
     public void approveBookingAcceptByOwner_shouldReturnAcceptedBooking() {
         when(bookingRepository.findById(booking1.getId()))
@@ -181,6 +204,23 @@ class BookingServiceTest {
         assertEquals(Status.REJECTED, booking.getStatus());
     }
 
+    @Test
+    public void approveBookingOverlappingApprovedBooking_shouldThrowException() {
+        when(bookingRepository.findById(booking1.getId()))
+                .thenReturn(Optional.ofNullable(booking1));
+        when(userRepository.findById(user3.getId()))
+                .thenReturn(Optional.ofNullable(user3));
+        when(bookingRepository.existsOverlapping(item1.getId(), Status.APPROVED,
+                booking1.getStart(), booking1.getEnd()))
+                .thenReturn(true);
+
+        Throwable ex = assertThrows(BookingUnavailableException.class,
+                () -> bookingService.approveBooking(user3.getId(), booking1.getId(), true));
+        assertEquals("Бронирование с id=1 пересекается с уже подтвержденным бронированием этой вещи.",
+                ex.getMessage());
+        assertEquals(Status.WAITING, booking1.getStatus());
+    }
+
     @Test
     public void approveBookingByAnotherUser_shouldThrowException() {
         when(bookingRepository.findById(booking1.getId()))
@@ -289,124 +329,129 @@ class BookingServiceTest {
 
     @Test
     public void getUserBookings_withStateAll_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllByBookerId(
                 user1.getId(),
-                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "start"))
+                OffsetPageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "start", "id"))
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserBookings(user1.getId(), State.ALL, 0, 10);
 
         verify(bookingRepository).findAllByBookerId(user1.getId(),
-                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "start")));
+                OffsetPageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "start", "id")));
     }
 
     @Test
     public void getUserBookings_withStatePast_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllByBookerIdAndEndBefore(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserBookings(user1.getId(), State.PAST, 0, 10);
 
         verify(bookingRepository).findAllByBookerIdAndEndBefore(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         );
     }
 
     @Test
     public void getUserBookings_withStateCurrent_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllCurrentByBookerId(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserBookings(user1.getId(), State.CURRENT, 0, 10);
 
         verify(bookingRepository).findAllCurrentByBookerId(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         );
     }
 
     @Test
     public void getUserBookings_withStateFuture_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllByBookerIdAndStartAfter(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserBookings(user1.getId(), State.FUTURE, 0, 10);
 
         verify(bookingRepository).findAllByBookerIdAndStartAfter(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         );
     }
 
     @Test
     public void getUserBookings_withStateWaiting_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllByBookerIdAndStatus(
                 eq(user1.getId()),
                 eq(Status.WAITING),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserBookings(user1.getId(), State.WAITING, 0, 10);
 
         verify(bookingRepository).findAllByBookerIdAndStatus(
                 eq(user1.getId()),
                 eq(Status.WAITING),
-                any(PageRequest.class)
+                any(Pageable.class)
         );
     }
 
     @Test
     public void getUserBookings_withStateRejected_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllByBookerIdAndStatus(
                 eq(user1.getId()),
                 eq(Status.REJECTED),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserBookings(user1.getId(), State.REJECTED, 0, 10);
 
         verify(bookingRepository).findAllByBookerIdAndStatus(
                 eq(user1.getId()),
                 eq(Status.REJECTED),
-                any(PageRequest.class)
+                any(Pageable.class)
         );
     }
 
+    @Test
+    public void getUserBookings_withCursor_shouldSeekAfterCursor() {
+        BookingCursor cursor = new BookingCursor(booking1.getStart(), booking1.getId());
+        when(bookingRepository.seekByBookerIdAndStatus(
+                user1.getId(),
+                cursor.getStart(),
+                cursor.getId(),
+                Status.WAITING,
+                PageRequest.of(0, 10)
+        ))
+                .thenReturn(List.of(booking1));
+
+        List<BookingDto> bookings = bookingService.getUserBookings(user1.getId(), State.WAITING, cursor, 10);
+
+        assertEquals(List.of(bookingDto1), bookings);
+    }
+
     @Test
     public void getUserBookings_withNotExistingUser_shouldThrowException() {
-        when(userRepository.findById(99L))
-                .thenReturn(Optional.empty());
+        doThrow(new UserNotFoundException("Пользователь с id=99 не найден."))
+                .when(userIdIndex).checkExists(99L);
 
         Throwable ex = assertThrows(UserNotFoundException.class,
                 () -> bookingService.getUserBookings(99, State.ALL, 0, 10));
@@ -415,123 +460,128 @@ class BookingServiceTest {
 
     @Test
     public void getUserItemsBookings_withStateAll_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllByItemOwner(
                 eq(user1.getId()),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserItemsBookings(user1.getId(), State.ALL, 0, 10);
 
-        verify(bookingRepository).findAllByItemOwner(eq(user1.getId()), any(PageRequest.class));
+        verify(bookingRepository).findAllByItemOwner(eq(user1.getId()), any(Pageable.class));
     }
 
     @Test
     public void getUserItemsBookings_withStatePast_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllByItemOwnerAndEndBefore(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserItemsBookings(user1.getId(), State.PAST, 0, 10);
 
         verify(bookingRepository).findAllByItemOwnerAndEndBefore(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         );
     }
 
     @Test
     public void getUserItemsBookings_withStateCurrent_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllCurrentByItemOwner(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserItemsBookings(user1.getId(), State.CURRENT, 0, 10);
 
         verify(bookingRepository).findAllCurrentByItemOwner(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         );
     }
 
     @Test
     public void getUserItemsBookings_withStateFuture_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllByItemOwnerAndStartAfter(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserItemsBookings(user1.getId(), State.FUTURE, 0, 10);
 
         verify(bookingRepository).findAllByItemOwnerAndStartAfter(
                 eq(user1.getId()),
                 any(LocalDateTime.class),
-                any(PageRequest.class)
+                any(Pageable.class)
         );
     }
 
     @Test
     public void getUserItemsBookings_withStateWaiting_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllByItemOwnerAndStatus(
                 eq(user1.getId()),
                 eq(Status.WAITING),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserItemsBookings(user1.getId(), State.WAITING, 0, 10);
 
         verify(bookingRepository).findAllByItemOwnerAndStatus(
                 eq(user1.getId()),
                 eq(Status.WAITING),
-                any(PageRequest.class)
+                any(Pageable.class)
         );
     }
 
     @Test
     public void getUserItemsBookings_withStateRejected_shouldInvokeCorrespondingRepositoryMethod() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(bookingRepository.findAllByItemOwnerAndStatus(
                 eq(user1.getId()),
                 eq(Status.REJECTED),
-                any(PageRequest.class)
+                any(Pageable.class)
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         bookingService.getUserItemsBookings(user1.getId(), State.REJECTED, 0, 10);
 
         verify(bookingRepository).findAllByItemOwnerAndStatus(
                 eq(user1.getId()),
                 eq(Status.REJECTED),
-                any(PageRequest.class)
+                any(Pageable.class)
         );
     }
 
+    @Test
+    public void getUserItemsBookings_withCursor_shouldSeekAfterCursor() {
+        BookingCursor cursor = new BookingCursor(booking1.getStart(), booking1.getId());
+        when(bookingRepository.seekPastByItemOwner(
+                eq(user3.getId()),
+                eq(cursor.getStart()),
+                eq(cursor.getId()),
+                any(LocalDateTime.class),
+                eq(PageRequest.of(0, 10))
+        ))
+                .thenReturn(List.of());
+
+        List<BookingDto> bookings = bookingService.getUserItemsBookings(user3.getId(), State.PAST, cursor, 10);
+
+        assertEquals(List.of(), bookings);
+    }
+
     @Test
     public void getUserItemsBookings_withNotExistingUser_shouldThrowException() {
-        when(userRepository.findById(99L))
-                .thenReturn(Optional.empty());
+        doThrow(new UserNotFoundException("Пользователь с id=99 не найден."))
+                .when(userIdIndex).checkExists(99L);
 
         Throwable ex = assertThrows(UserNotFoundException.class,
                 () -> bookingService.getUserItemsBookings(99, State.ALL, 0, 10));
@@ -11,8 +11,10 @@ import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
 import ru.practicum.shareit.item.dto.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemInfoDto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -53,6 +55,8 @@ class ItemControllerTest {
     @Test
     @SneakyThrows
     void getItemById_withUserId_shouldReturnOk() {
+        when(itemService.getItemById(1, 1)).thenReturn(ItemInfoDto.builder().id(1L).build());
+
         mvc.perform(get(ITEMS_PATH + "/1").header("X-Sharer-User-Id", 1))
                 .andExpect(status().isOk());
 
@@ -82,6 +86,24 @@ class ItemControllerTest {
         assertEquals(objectMapper.writeValueAsString(item), result);
     }
 
+    @Test
+    @SneakyThrows
+    void addItems_withUserIdAndValidDtos_shouldReturnOk() {
+        List<ItemDto> items = List.of(
+                new ItemDto(1L, "item1", "first test item description", true, null),
+                new ItemDto(2L, "item2", "second test item description", true, null)
+        );
+        when(itemService.addItems(1, items)).thenReturn(items);
+
+        String result = mvc.perform(post(ITEMS_PATH + "/batch")
+                        .header("X-Sharer-User-Id", 1)
+                        .contentType(APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(items)))
+                .andExpect(status().isOk()).andReturn().getResponse().getContentAsString();
+
+        assertEquals(objectMapper.writeValueAsString(items), result);
+    }
+
     @Test
     @SneakyThrows
     void addItem_withoutUserId_shouldReturnBadRequest() {
@@ -7,6 +7,7 @@ import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabas
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.user.User;
 
@@ -18,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 @DataJpaTest
 @AutoConfigureTestDatabase
 @Transactional
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 class ItemRepositoryTest {
     @Autowired
     private TestEntityManager em;
@@ -56,4 +58,23 @@ class ItemRepositoryTest {
         assertTrue(items.get(0).getAvailable());
         assertEquals(1L, items.get(0).getRequest());
     }
+
+    @Test
+    void search_shouldRankNamePrefixThenNameThenDescriptionMatches() {
+        Item descriptionMatch = new Item(null, "hammer", "drill attachment", 1L, true, null);
+        Item nameMatch = new Item(null, "cordless drill", "battery powered", 1L, true, null);
+        Item namePrefixMatch = new Item(null, "Drill", "simple", 2L, true, null);
+        em.persist(user1);
+        em.persist(user2);
+        em.persist(descriptionMatch);
+        em.persist(nameMatch);
+        em.persist(namePrefixMatch);
+
+        List<Item> items = itemRepository.search("drill", PageRequest.of(0, 5)).getContent();
+
+        assertEquals(3, items.size());
+        assertEquals(namePrefixMatch.getId(), items.get(0).getId());
+        assertEquals(nameMatch.getId(), items.get(1).getId());
+        assertEquals(descriptionMatch.getId(), items.get(2).getId());
+    }
 }
\ No newline at end of file
@@ -0,0 +1,169 @@
+package ru.practicum.shareit.item;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemMapper;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ItemSearchIndexTest {
+    @Mock
+    private ItemRepository itemRepository;
+    private ItemSearchIndex itemSearchIndex;
+    private Item item1;
+    private Item item2;
+    private Item item3;
+    private Item item4;
+
+    @BeforeEach
+    void beforeEach() {
+        itemSearchIndex = new ItemSearchIndex(itemRepository, true);
+        item1 = new Item(1L, "hammer", "drill attachment", 1L, true, null);
+        item2 = new Item(2L, "cordless drill", "battery powered", 1L, true, 1L);
+        item3 = new Item(3L, "Drill", "simple", 2L, true, null);
+        item4 = new Item(4L, "drill press", "heavy", 2L, false, null);
+        when(itemRepository.findAllBy(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(item1, item2, item3, item4)));
+        itemSearchIndex.load();
+    }
+
+    @Test
+    void load_shouldIndexOnlyAvailableItems() {
+        assertTrue(itemSearchIndex.isReady());
+        assertEquals(3, itemSearchIndex.snapshot().size());
+        assertFalse(itemSearchIndex.snapshot().containsKey(item4.getId()));
+    }
+
+    @Test
+    void search_shouldRankNamePrefixThenNameThenDescriptionMatches() {
+        List<ItemDto> items = itemSearchIndex.search("DRILL", 0, 10);
+
+        assertIterableEquals(
+                List.of(ItemMapper.toItemDto(item3), ItemMapper.toItemDto(item2), ItemMapper.toItemDto(item1)),
+                items
+        );
+    }
+
+    @Test
+    void search_shouldMatchSubstringAcrossWords() {
+        List<ItemDto> items = itemSearchIndex.search("s dr", 0, 10);
+
+        assertIterableEquals(List.of(ItemMapper.toItemDto(item2)), items);
+    }
+
+    @Test
+    void search_withShortText_shouldMatchSubstring() {
+        List<Long> ids = itemSearchIndex.search("dr", 0, 10).stream()
+                .map(ItemDto::getId)
+                .collect(Collectors.toList());
+
+        assertIterableEquals(List.of(3L, 2L, 1L), ids);
+    }
+
+    @Test
+    void search_shouldReturnRequestedPage() {
+        List<ItemDto> items = itemSearchIndex.search("drill", 1, 1);
+
+        assertIterableEquals(List.of(ItemMapper.toItemDto(item2)), items);
+    }
+
+    @Test
+    void search_withOffsetInsidePage_shouldStartAtOffset() {
+        List<ItemDto> items = itemSearchIndex.search("drill", 1, 2);
+
+        assertIterableEquals(List.of(ItemMapper.toItemDto(item2), ItemMapper.toItemDto(item1)), items);
+    }
+
+    @Test
+    void index_withIdAboveIntRange_shouldIndexItem() {
+        Item item = new Item(Integer.MAX_VALUE + 1L, "drill bit", "steel", 1L, true, null);
+        itemSearchIndex.index(item);
+
+        assertIterableEquals(List.of(ItemMapper.toItemDto(item3), ItemMapper.toItemDto(item)),
+                itemSearchIndex.search("drill", 0, 2));
+    }
+
+    @Test
+    void search_withUnknownText_shouldReturnEmptyList() {
+        assertTrue(itemSearchIndex.search("saw", 0, 10).isEmpty());
+    }
+
+    @Test
+    void index_withUpdatedItem_shouldReplaceOldTerms() {
+        item2.setName("cordless screwdriver");
+        item2.setDescription("battery powered");
+        itemSearchIndex.index(item2);
+
+        assertTrue(itemSearchIndex.search("cordless drill", 0, 10).isEmpty());
+        assertIterableEquals(List.of(ItemMapper.toItemDto(item2)), itemSearchIndex.search("screw", 0, 10));
+    }
+
+    @Test
+    void index_withUnavailableItem_shouldRemoveItem() {
+        item3.setAvailable(false);
+        itemSearchIndex.index(item3);
+
+        assertFalse(itemSearchIndex.snapshot().containsKey(item3.getId()));
+        assertEquals(2, itemSearchIndex.search("drill", 0, 10).size());
+    }
+
+    @Test
+    void removeByOwner_shouldRemoveAllOwnerItems() {
+        itemSearchIndex.removeByOwner(1L);
+
+        assertEquals(1, itemSearchIndex.snapshot().size());
+        assertIterableEquals(List.of(ItemMapper.toItemDto(item3)), itemSearchIndex.search("drill", 0, 10));
+    }
+
+    @Test
+    void rebuild_shouldKeepServingCurrentIndexWhileLoading() {
+        item1.setName("saw");
+        when(itemRepository.findAllBy(any(Pageable.class))).thenAnswer(invocation -> {
+            assertEquals(3, itemSearchIndex.search("drill", 0, 10).size());
+            return new SliceImpl<>(List.of(item1, item2, item3, item4));
+        });
+
+        itemSearchIndex.rebuild();
+
+        assertTrue(itemSearchIndex.isReady());
+        assertIterableEquals(List.of(ItemMapper.toItemDto(item1)), itemSearchIndex.search("saw", 0, 10));
+    }
+
+    @Test
+    void rebuild_withItemIndexedWhileLoading_shouldKeepUpdate() {
+        Item item5 = new Item(5L, "drill bits", "set", 2L, true, null);
+        when(itemRepository.findAllBy(any(Pageable.class))).thenAnswer(invocation -> {
+            itemSearchIndex.index(item5);
+            itemSearchIndex.removeByOwner(1L);
+            return new SliceImpl<>(List.of(item1, item2, item3, item4));
+        });
+
+        itemSearchIndex.rebuild();
+
+        assertEquals(List.of(3L, 5L), itemSearchIndex.snapshot().keySet().stream().sorted()
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void rebuild_withFailedLoad_shouldKeepCurrentIndex() {
+        when(itemRepository.findAllBy(any(Pageable.class))).thenThrow(new IllegalStateException("database"));
+
+        assertThrows(IllegalStateException.class, () -> itemSearchIndex.rebuild());
+        itemSearchIndex.index(new Item(5L, "drill bits", "set", 2L, true, null));
+
+        assertTrue(itemSearchIndex.isReady());
+        assertEquals(4, itemSearchIndex.snapshot().size());
+    }
+}
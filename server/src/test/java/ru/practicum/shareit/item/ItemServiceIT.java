@@ -12,15 +12,21 @@ import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.Status;
 import ru.practicum.shareit.booking.dto.BookingInfoDto;
 import ru.practicum.shareit.item.dto.*;
+import ru.practicum.shareit.metrics.SqlStatementCounter;
 import ru.practicum.shareit.user.User;
 
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static ru.practicum.shareit.metrics.SqlStatementAssertions.assertConstantStatements;
+import static ru.practicum.shareit.metrics.SqlStatementAssertions.assertMaxStatements;
 
 @Transactional
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -30,6 +36,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class ItemServiceIT {
     private final EntityManager em;
     private final ItemService itemService;
+    private final SqlStatementCounter sqlStatementCounter;
     private User user1;
     private User user2;
     private Item item1;
@@ -139,6 +146,26 @@ class ItemServiceIT {
         assertTrue(item.getAvailable());
     }
 
+    @Test
+    void addItems_shouldInsertItemsInBatches() {
+        em.persist(user1);
+        em.flush();
+        List<ItemDto> itemDtos = IntStream.rangeClosed(1, 120)
+                .mapToObj(i -> new ItemDto(null, "item" + i, "item for batch test", true, null))
+                .collect(Collectors.toList());
+        List<ItemDto> items = new ArrayList<>();
+
+        assertMaxStatements(sqlStatementCounter, 10, () -> {
+            items.addAll(itemService.addItems(user1.getId(), itemDtos));
+            em.flush();
+        });
+
+        assertEquals(120, items.size());
+        assertTrue(items.stream().allMatch(item -> item.getId() != null));
+        TypedQuery<Long> query = em.createQuery("SELECT COUNT(i) FROM Item AS i WHERE i.owner = :owner", Long.class);
+        assertEquals(120L, query.setParameter("owner", user1.getId()).getSingleResult());
+    }
+
     @Test
     void updateItem() {
         em.persist(user1);
@@ -175,6 +202,19 @@ class ItemServiceIT {
         assertIterableEquals(List.of(itemDto1, itemDto2), search3);
     }
 
+    @Test
+    void searchItem_withLikeWildcards_shouldMatchThemLiterally() {
+        em.persist(user1);
+        em.persist(user2);
+        item1.setName("drill 100%");
+        em.persist(item1);
+        em.persist(item2);
+
+        assertIterableEquals(List.of(ItemMapper.toItemDto(item1)), itemService.searchItem("100%", 0, 10));
+        assertTrue(itemService.searchItem("item_", 0, 10).isEmpty());
+        assertIterableEquals(List.of(ItemMapper.toItemDto(item1)), itemService.searchItem("%", 0, 10));
+    }
+
     @Test
     void addComment() {
         em.persist(user1);
@@ -192,4 +232,35 @@ class ItemServiceIT {
         assertEquals(user1, comment.getAuthor());
         assertNotNull(comment.getCreated());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllItems_withMoreItems_shouldExecuteSameNumberOfStatements() {
+        em.persist(user1);
+        em.persist(user2);
+
+        assertConstantStatements(sqlStatementCounter, em, number -> {
+            Item item = new Item(null, "item" + number, "item for test", user1.getId(), true, 0L);
+            em.persist(item);
+            em.persist(new Booking(null, LocalDateTime.now().minusMinutes(10), LocalDateTime.now().minusMinutes(5),
+                    item, em.getReference(User.class, user2.getId()), Status.APPROVED));
+            em.persist(new Comment(null, "comment" + number, item, em.getReference(User.class, user2.getId()),
+                    LocalDateTime.now()));
+        }, () -> itemService.getAllItems(user1.getId(), 0, 10));
+    }
+
+    @Test
+    void getItemById_withMoreCommentAuthors_shouldExecuteSameNumberOfStatements() {
+        em.persist(user1);
+        em.persist(user2);
+        item1.setOwner(user1.getId());
+        em.persist(item1);
+        em.persist(booking1);
+
+        assertConstantStatements(sqlStatementCounter, em, number -> {
+            User author = new User(null, "author" + number, "author" + number + "@test.com");
+            em.persist(author);
+            em.persist(new Comment(null, "comment" + number, em.getReference(Item.class, item1.getId()), author,
+                    LocalDateTime.now()));
+        }, () -> itemService.getItemById(user1.getId(), item1.getId()));
+    }
+}
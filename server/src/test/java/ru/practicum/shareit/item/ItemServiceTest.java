@@ -6,8 +6,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.booking.Booking;
 import ru.practicum.shareit.booking.BookingRepository;
 import ru.practicum.shareit.booking.Status;
@@ -17,7 +19,9 @@ import ru.practicum.shareit.exception.ItemNotFoundException;
 import ru.practicum.shareit.exception.ItemUnavailableException;
 import ru.practicum.shareit.exception.UserNotFoundException;
 import ru.practicum.shareit.item.dto.*;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserIdIndex;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
@@ -35,11 +39,15 @@ class ItemServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserIdIndex userIdIndex;
+    @Mock
     private ItemRepository itemRepository;
     @Mock
     private BookingRepository bookingRepository;
     @Mock
     private CommentRepository commentRepository;
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
     private User user1;
     private User user2;
     private User user3;
@@ -125,43 +133,77 @@ class ItemServiceTest {
 
     @Test
     public void getAllItems_whenHaveItems_shouldReturnList() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(itemRepository.findAllByOwnerOrderById(user1.getId(), PageRequest.of(0, 10)))
-                .thenReturn(new PageImpl<>(List.of(item1, item2)));
-        when(commentRepository.findAllByItemId(item1.getId()))
+                .thenReturn(new SliceImpl<>(List.of(item1, item2)));
+        when(commentRepository.findAllByItemIdIn(List.of(item1.getId(), item2.getId())))
+                .thenReturn(List.of(comment1, comment2, comment3, comment4));
+        when(bookingRepository.findAllLastByItemIdIn(
+                eq(List.of(item1.getId(), item2.getId())),
+                eq(Status.APPROVED),
+                any(LocalDateTime.class)
+        ))
+                .thenReturn(List.of(booking1, booking3));
+        when(bookingRepository.findAllNextByItemIdIn(
+                eq(List.of(item1.getId(), item2.getId())),
+                eq(Status.APPROVED),
+                any(LocalDateTime.class)
+        ))
+                .thenReturn(List.of(booking2, booking4));
+
+        List<ItemInfoDto> expected = List.of(itemInfoDto1, itemInfoDto2);
+        List<ItemInfoDto> items = itemService.getAllItems(user1.getId(), 0, 10);
+
+        assertIterableEquals(expected, items);
+        verify(userIdIndex, times(1)).checkExists(user1.getId());
+        verify(commentRepository, never()).findAllByItemId(anyLong());
+    }
+
+    @Test
+    public void getAllItems_whenItemHasNoCommentsAndBookings_shouldReturnItemWithEmptyData() {
+        when(itemRepository.findAllByOwnerOrderById(user1.getId(), PageRequest.of(0, 10)))
+                .thenReturn(new SliceImpl<>(List.of(item1, item2)));
+        when(commentRepository.findAllByItemIdIn(List.of(item1.getId(), item2.getId())))
                 .thenReturn(List.of(comment1, comment2));
-        when(commentRepository.findAllByItemId(item2.getId()))
-                .thenReturn(List.of(comment3, comment4));
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(List.of(booking1, booking2));
-        when(bookingRepository.findAllByItemId(item2.getId()))
-                .thenReturn(List.of(booking3, booking4));
+        when(bookingRepository.findAllLastByItemIdIn(
+                eq(List.of(item1.getId(), item2.getId())),
+                eq(Status.APPROVED),
+                any(LocalDateTime.class)
+        ))
+                .thenReturn(List.of(booking1));
+        when(bookingRepository.findAllNextByItemIdIn(
+                eq(List.of(item1.getId(), item2.getId())),
+                eq(Status.APPROVED),
+                any(LocalDateTime.class)
+        ))
+                .thenReturn(List.of(booking2));
+        itemInfoDto2.setLastBooking(null);
+        itemInfoDto2.setNextBooking(null);
+        itemInfoDto2.setComments(new ArrayList<>());
 
         List<ItemInfoDto> expected = List.of(itemInfoDto1, itemInfoDto2);
         List<ItemInfoDto> items = itemService.getAllItems(user1.getId(), 0, 10);
 
         assertIterableEquals(expected, items);
-        verify(userRepository, times(1)).findById(user1.getId());
     }
 
     @Test
     public void getAllItems_whenEmpty_shouldReturnEmptyList() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(itemRepository.findAllByOwnerOrderById(user1.getId(), PageRequest.of(0, 10)))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         List<ItemInfoDto> items = itemService.getAllItems(user1.getId(), 0, 10);
 
         assertEquals(0, items.size());
-        verify(userRepository, times(1)).findById(user1.getId());
+        verify(userIdIndex, times(1)).checkExists(user1.getId());
+        verify(commentRepository, never()).findAllByItemIdIn(anyList());
+        verify(bookingRepository, never()).findAllLastByItemIdIn(anyList(), any(Status.class), any(LocalDateTime.class));
+        verify(bookingRepository, never()).findAllNextByItemIdIn(anyList(), any(Status.class), any(LocalDateTime.class));
     }
 
     @Test
     public void getAllItems_byNotExistingUser_shouldThrowException() {
-        when(userRepository.findById(99L))
-                .thenReturn(Optional.empty());
+        doThrow(new UserNotFoundException("Пользователь с id=99 не найден."))
+                .when(userIdIndex).checkExists(99L);
 
         Throwable ex = assertThrows(UserNotFoundException.class, () -> itemService.getAllItems(99, 0, 10));
         assertEquals("Пользователь с id=99 не найден.", ex.getMessage());
@@ -169,81 +211,102 @@ class ItemServiceTest {
 
     @Test
     public void getItemById_withExistingIdFromOwner_shouldReturnItem() {
-        when(userRepository.findById(user3.getId()))
-                .thenReturn(Optional.ofNullable(user3));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
         when(commentRepository.findAllByItemId(item1.getId()))
                 .thenReturn(List.of(comment1, comment2));
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(List.of(booking1, booking2));
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartBeforeOrderByStartDesc(
+                eq(item1.getId()),
+                eq(Status.APPROVED),
+                any(LocalDateTime.class)
+        ))
+                .thenReturn(Optional.of(booking1));
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(
+                eq(item1.getId()),
+                eq(Status.APPROVED),
+                any(LocalDateTime.class)
+        ))
+                .thenReturn(Optional.of(booking2));
 
         ItemInfoDto item = itemService.getItemById(user3.getId(), item1.getId());
 
         assertEquals(itemInfoDto1, item);
-        verify(userRepository, times(1)).findById(user3.getId());
+        verify(userIdIndex, times(1)).checkExists(user3.getId());
     }
 
     @Test
     public void getItemById_withExistingIdFromAnotherUser_shouldReturnItemWithoutBookings() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
         when(commentRepository.findAllByItemId(item1.getId()))
                 .thenReturn(List.of(comment1, comment2));
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(List.of(booking1, booking2));
         itemInfoDto1.setLastBooking(null);
         itemInfoDto1.setNextBooking(null);
 
         ItemInfoDto item = itemService.getItemById(user1.getId(), item1.getId());
 
         assertEquals(itemInfoDto1, item);
-        verify(userRepository, times(1)).findById(user1.getId());
+        verify(userIdIndex, times(1)).checkExists(user1.getId());
+        verifyNoInteractions(bookingRepository);
     }
 
     @Test
     public void getItemById_withNoBookings_shouldReturnItemWithoutBookings() {
-        when(userRepository.findById(user3.getId()))
-                .thenReturn(Optional.ofNullable(user3));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
         when(commentRepository.findAllByItemId(item1.getId()))
                 .thenReturn(List.of(comment1, comment2));
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(new ArrayList<>());
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartBeforeOrderByStartDesc(
+                eq(item1.getId()),
+                eq(Status.APPROVED),
+                any(LocalDateTime.class)
+        ))
+                .thenReturn(Optional.empty());
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(
+                eq(item1.getId()),
+                eq(Status.APPROVED),
+                any(LocalDateTime.class)
+        ))
+                .thenReturn(Optional.empty());
         itemInfoDto1.setLastBooking(null);
         itemInfoDto1.setNextBooking(null);
 
         ItemInfoDto item = itemService.getItemById(user3.getId(), item1.getId());
 
         assertEquals(itemInfoDto1, item);
-        verify(userRepository, times(1)).findById(user3.getId());
+        verify(userIdIndex, times(1)).checkExists(user3.getId());
     }
 
     @Test
     public void getItemById_withNoComments_shouldReturnItemWithoutComments() {
-        when(userRepository.findById(user3.getId()))
-                .thenReturn(Optional.ofNullable(user3));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
         when(commentRepository.findAllByItemId(item1.getId()))
                 .thenReturn(new ArrayList<>());
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(List.of(booking1, booking2));
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartBeforeOrderByStartDesc(
+                eq(item1.getId()),
+                eq(Status.APPROVED),
+                any(LocalDateTime.class)
+        ))
+                .thenReturn(Optional.of(booking1));
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(
+                eq(item1.getId()),
+                eq(Status.APPROVED),
+                any(LocalDateTime.class)
+        ))
+                .thenReturn(Optional.of(booking2));
         itemInfoDto1.setComments(new ArrayList<>());
 
         ItemInfoDto item = itemService.getItemById(user3.getId(), item1.getId());
 
         assertEquals(itemInfoDto1, item);
-        verify(userRepository, times(1)).findById(user3.getId());
+        verify(userIdIndex, times(1)).checkExists(user3.getId());
     }
 
     @Test
     public void getItemById_withExistingIdFromNotExistingUser_shouldThrowException() {
-        when(userRepository.findById(99L))
-                .thenReturn(Optional.empty());
+        doThrow(new UserNotFoundException("Пользователь с id=99 не найден."))
+                .when(userIdIndex).checkExists(99L);
 
         Throwable ex = assertThrows(UserNotFoundException.class, () -> itemService.getItemById(99, item1.getId()));
         assertEquals("Пользователь с id=99 не найден.", ex.getMessage());
@@ -251,33 +314,46 @@ class ItemServiceTest {
 
     @Test
     public void getItemById_withNotExistingId_shouldThrowException() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(itemRepository.findById(99L))
                 .thenReturn(Optional.empty());
 
         Throwable ex = assertThrows(ItemNotFoundException.class, () -> itemService.getItemById(user1.getId(), 99));
         assertEquals("Вещь с id=99 не найдена.", ex.getMessage());
-        verify(userRepository, times(1)).findById(user1.getId());
+        verify(userIdIndex, times(1)).checkExists(user1.getId());
     }
 
     @Test
     public void addItem_fromExistingUser_shouldReturnItem() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(itemRepository.save(item1))
                 .thenReturn(item1);
 
         ItemDto item = itemService.addItem(user1.getId(), itemDto1);
 
         assertEquals(itemDto1, item);
-        verify(userRepository, times(1)).findById(user1.getId());
+        verify(userIdIndex, times(1)).checkExists(user1.getId());
+        verify(itemSearchIndex, times(1)).index(item1);
+    }
+
+    @Test
+    public void addItems_fromExistingUser_shouldSetOwnerAndSaveAllItems() {
+        when(itemRepository.saveAll(List.of(item1, item2)))
+                .thenReturn(List.of(item1, item2));
+
+        List<ItemDto> items = itemService.addItems(user3.getId(), List.of(itemDto1, itemDto2));
+
+        assertIterableEquals(List.of(itemDto1, itemDto2), items);
+        verify(itemRepository).saveAll(argThat(saved -> {
+            saved.forEach(item -> assertEquals(user3.getId(), item.getOwner()));
+            return true;
+        }));
+        verify(itemSearchIndex, times(1)).index(item1);
+        verify(itemSearchIndex, times(1)).index(item2);
     }
 
     @Test
     public void addItem_fromNotExistingUser_shouldThrowException() {
-        when(userRepository.findById(99L))
-                .thenReturn(Optional.empty());
+        doThrow(new UserNotFoundException("Пользователь с id=99 не найден."))
+                .when(userIdIndex).checkExists(99L);
 
         Throwable ex = assertThrows(UserNotFoundException.class, () -> itemService.addItem(99, itemDto1));
         assertEquals("Пользователь с id=99 не найден.", ex.getMessage());
@@ -289,8 +365,6 @@ class ItemServiceTest {
         Item updatedItem = ItemMapper.toItem(itemDtoForUpdate);
         updatedItem.setId(item1.getId());
         updatedItem.setOwner(user3.getId());
-        when(userRepository.findById(user3.getId()))
-                .thenReturn(Optional.ofNullable(user3));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
         when(itemRepository.save(updatedItem)).thenReturn(updatedItem);
@@ -301,13 +375,12 @@ class ItemServiceTest {
         assertEquals("updatedItem", updatedItemDto.getName());
         assertEquals("updated item for test", updatedItemDto.getDescription());
         assertFalse(updatedItemDto.getAvailable());
+        verify(itemSearchIndex, times(1)).index(updatedItem);
     }
 
     @Test
     public void updateItem_byAnotherUser_shouldThrowException() {
         ItemDto itemDtoForUpdate = new ItemDto(0L, "updatedItem", "updated item for test", false, 0L);
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
 
@@ -324,8 +397,6 @@ class ItemServiceTest {
         updatedItem.setOwner(user3.getId());
         updatedItem.setDescription("first item for test");
         updatedItem.setAvailable(true);
-        when(userRepository.findById(user3.getId()))
-                .thenReturn(Optional.ofNullable(user3));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
         when(itemRepository.save(updatedItem)).thenReturn(updatedItem);
@@ -346,8 +417,6 @@ class ItemServiceTest {
         updatedItem.setOwner(user3.getId());
         updatedItem.setName("item1");
         updatedItem.setAvailable(true);
-        when(userRepository.findById(user3.getId()))
-                .thenReturn(Optional.ofNullable(user3));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
         when(itemRepository.save(updatedItem)).thenReturn(updatedItem);
@@ -368,8 +437,6 @@ class ItemServiceTest {
         updatedItem.setOwner(user3.getId());
         updatedItem.setName("item1");
         updatedItem.setDescription("first item for test");
-        when(userRepository.findById(user3.getId()))
-                .thenReturn(Optional.ofNullable(user3));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
         when(itemRepository.save(updatedItem)).thenReturn(updatedItem);
@@ -384,16 +451,29 @@ class ItemServiceTest {
 
     @Test
     public void searchItem_withText_shouldReturnList() {
-        when(itemRepository.search("item", PageRequest.of(0, 10)))
-                .thenReturn(new PageImpl<>(List.of(item1, item2)));
+        when(itemRepository.search("item", OffsetPageRequest.of(5, 10, Sort.unsorted())))
+                .thenReturn(new SliceImpl<>(List.of(item1, item2)));
 
         List<ItemDto> expected = List.of(itemDto1, itemDto2);
-        List<ItemDto> items = itemService.searchItem("item", 0,10);
+        List<ItemDto> items = itemService.searchItem("item", 5, 10);
 
         assertEquals(2, items.size());
         assertIterableEquals(expected, items);
     }
 
+    @Test
+    public void searchItem_whenIndexReady_shouldReturnListFromIndex() {
+        when(itemSearchIndex.isReady())
+                .thenReturn(true);
+        when(itemSearchIndex.search("item", 0, 10))
+                .thenReturn(List.of(itemDto1, itemDto2));
+
+        List<ItemDto> items = itemService.searchItem("item", 0, 10);
+
+        assertIterableEquals(List.of(itemDto1, itemDto2), items);
+        verify(itemRepository, never()).search(anyString(), any(Pageable.class));
+    }
+
     @Test
     public void searchItem_withEmptyString_shouldReturnEmptyList() {
         List<ItemDto> items = itemService.searchItem("", 0,10);
@@ -407,8 +487,9 @@ class ItemServiceTest {
                 .thenReturn(Optional.ofNullable(user1));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(List.of(booking1, booking2));
+        when(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(eq(user1.getId()), eq(item1.getId()),
+                eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(true);
         when(commentRepository.save(comment1))
                 .thenReturn(comment1);
 
@@ -418,76 +499,19 @@ class ItemServiceTest {
     }
 
     @Test
-    public void addComment_fromUserBookingNow_shouldThrowException() {
+    public void addComment_fromUserWithoutFinishedApprovedBooking_shouldThrowException() {
         when(userRepository.findById(user2.getId()))
                 .thenReturn(Optional.ofNullable(user2));
         when(itemRepository.findById(item1.getId()))
                 .thenReturn(Optional.ofNullable(item1));
-        booking2.setStart(LocalDateTime.now().minusMinutes(1));
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(List.of(booking1, booking2));
+        when(bookingRepository.existsByBookerIdAndItemIdAndStatusAndEndBefore(eq(user2.getId()), eq(item1.getId()),
+                eq(Status.APPROVED), any(LocalDateTime.class)))
+                .thenReturn(false);
 
         Throwable ex = assertThrows(ItemUnavailableException.class,
                 () -> itemService.addComment(user2.getId(), item1.getId(), commentDto2));
-        assertEquals("Пользователь с id=2 не брал в аренду вещь с id=1", ex.getMessage());
-    }
-
-    @Test
-    public void addComment_fromUserWillBookInFuture_shouldThrowException() {
-        when(userRepository.findById(user2.getId()))
-                .thenReturn(Optional.ofNullable(user2));
-        when(itemRepository.findById(item1.getId()))
-                .thenReturn(Optional.ofNullable(item1));
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(List.of(booking1, booking2));
-
-        Throwable ex = assertThrows(ItemUnavailableException.class,
-                () -> itemService.addComment(user2.getId(), item1.getId(), commentDto2));
-        assertEquals("Пользователь с id=2 не брал в аренду вещь с id=1", ex.getMessage());
-    }
-
-    @Test
-    public void addComment_fromUserWithBookingHavingWaitingStatus_shouldThrowException() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
-        when(itemRepository.findById(item1.getId()))
-                .thenReturn(Optional.ofNullable(item1));
-        booking1.setStatus(Status.WAITING);
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(List.of(booking1, booking2));
-
-        Throwable ex = assertThrows(ItemUnavailableException.class,
-                () -> itemService.addComment(user1.getId(), item1.getId(), commentDto1));
-        assertEquals("Пользователь с id=1 не брал в аренду вещь с id=1", ex.getMessage());
-    }
-
-    @Test
-    public void addComment_fromUserWithBookingHavingRejectedStatus_shouldThrowException() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
-        when(itemRepository.findById(item1.getId()))
-                .thenReturn(Optional.ofNullable(item1));
-        booking1.setStatus(Status.REJECTED);
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(List.of(booking1, booking2));
-
-        Throwable ex = assertThrows(ItemUnavailableException.class,
-                () -> itemService.addComment(user1.getId(), item1.getId(), commentDto1));
-        assertEquals("Пользователь с id=1 не брал в аренду вещь с id=1", ex.getMessage());
-    }
-
-    @Test
-    public void addComment_fromAnotherUser_shouldThrowException() {
-        when(userRepository.findById(user2.getId()))
-                .thenReturn(Optional.ofNullable(user2));
-        when(itemRepository.findById(item1.getId()))
-                .thenReturn(Optional.ofNullable(item1));
-        when(bookingRepository.findAllByItemId(item1.getId()))
-                .thenReturn(List.of(booking1, booking2));
-
-        Throwable ex = assertThrows(ItemUnavailableException.class,
-                () -> itemService.addComment(user2.getId(), item1.getId(), commentDto1));
         assertEquals(String.format("Пользователь с id=%d не брал в аренду вещь с id=%d", user2.getId(), item1.getId()),
                 ex.getMessage());
+        verify(commentRepository, never()).save(any(Comment.class));
     }
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package ru.practicum.shareit.metrics;
+
+import lombok.experimental.UtilityClass;
+
+import javax.persistence.EntityManager;
+import java.util.function.IntConsumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@UtilityClass
+public class SqlStatementAssertions {
+    private static final int GROWN_ROWS = 5;
+
+    public static SqlStatements countStatements(SqlStatementCounter counter, Runnable action) {
+        counter.start();
+        try {
+            action.run();
+        } catch (RuntimeException | Error e) {
+            counter.stop();
+            throw e;
+        }
+        return counter.stop();
+    }
+
+    public static void assertMaxStatements(SqlStatementCounter counter, long max, Runnable action) {
+        SqlStatements statements = countStatements(counter, action);
+        assertTrue(statements.getCount() <= max,
+                () -> "Выполнено больше " + max + " SQL-запросов: " + statements);
+    }
+
+    public static void assertConstantStatements(SqlStatementCounter counter, EntityManager em,
+                                                IntConsumer persistRow, Runnable action) {
+        persistRow.accept(1);
+        em.flush();
+        em.clear();
+        action.run();
+        em.clear();
+        long expected = countStatements(counter, action).getCount();
+
+        for (int row = 2; row <= GROWN_ROWS; row++) {
+            persistRow.accept(row);
+        }
+        em.flush();
+        em.clear();
+
+        SqlStatements statements = countStatements(counter, action);
+        assertEquals(expected, statements.getCount(),
+                () -> "Количество SQL-запросов растёт вместе с данными: " + statements);
+    }
+}
@@ -0,0 +1,48 @@
+package ru.practicum.shareit.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class SqlStatementMetricsFilterTest {
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final SqlStatementCounter counter = new SqlStatementCounter(registry);
+    private final SqlStatementMetricsFilter filter = new SqlStatementMetricsFilter(counter, registry, 20);
+
+    @Test
+    void doFilter_withStatementsInRequest_shouldRecordStatementsPerHandlerPattern() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/items/1");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/items/{itemId}");
+            counter.inspect("select * from items where id=?");
+            counter.inspect("select * from bookings where item_id=?");
+        });
+
+        DistributionSummary summary = registry.get("shareit.sql.statements.per.request")
+                .tag("method", "GET")
+                .tag("uri", "/items/{itemId}")
+                .summary();
+        assertEquals(1, summary.count());
+        assertEquals(2, summary.totalAmount());
+        assertEquals(2, registry.get("shareit.sql.statements").counter().count());
+    }
+
+    @Test
+    void inspect_outsideRequest_shouldCountOnlyTotal() throws Exception {
+        counter.inspect("select * from users");
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/users"), new MockHttpServletResponse(),
+                (req, res) -> {
+                });
+
+        assertEquals(0, registry.get("shareit.sql.statements.per.request").tag("uri", "UNKNOWN").summary()
+                .totalAmount());
+        assertEquals(1, registry.get("shareit.sql.statements").counter().count());
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
@@ -78,6 +79,19 @@ class ItemRequestControllerTest {
         verify(itemRequestService).getUserRequests(1L);
     }
 
+    @Test
+    @SneakyThrows
+    void getRequests_withUserIdAndSize_shouldReturnOk() {
+        mvc.perform(get(REQUESTS_PATH)
+                        .header("X-Sharer-User-Id", 1)
+                        .param("from", "2")
+                        .param("size", "2"))
+                .andExpect(status().isOk());
+
+        verify(itemRequestService).getUserRequests(1, 2, 2);
+        verify(itemRequestService, never()).getUserRequests(anyLong());
+    }
+
     @Test
     @SneakyThrows
     void getRequests_withoutUserId_shouldReturnBadRequest() {
@@ -109,6 +123,9 @@ class ItemRequestControllerTest {
     @Test
     @SneakyThrows
     void getRequestById_withUserId_shouldReturnOk() {
+        when(itemRequestService.getRequestById(1, 1))
+                .thenReturn(new ItemRequestDto(1L, "description", 1L, LocalDateTime.now(), List.of()));
+
         mvc.perform(get(REQUESTS_PATH + "/1").header("X-Sharer-User-Id", 1))
                 .andExpect(status().isOk());
 
@@ -9,6 +9,7 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.metrics.SqlStatementCounter;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.user.User;
 
@@ -18,6 +19,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static ru.practicum.shareit.metrics.SqlStatementAssertions.assertConstantStatements;
 
 @Transactional
 @RequiredArgsConstructor(onConstructor_ = @Autowired)
@@ -27,6 +29,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class ItemRequestServiceIT {
     private final EntityManager em;
     private final ItemRequestService itemRequestService;
+    private final SqlStatementCounter sqlStatementCounter;
     private User user1;
     private User user2;
     private Item item1;
@@ -145,4 +148,17 @@ class ItemRequestServiceIT {
         assertEquals(2L, itemRequest.getRequester());
         assertEquals(itemRequest1.getCreated(), itemRequest.getCreated());
     }
-}
\ No newline at end of file
+
+    @Test
+    void getAllRequests_withMoreRequests_shouldExecuteSameNumberOfStatements() {
+        em.persist(user1);
+        em.persist(user2);
+
+        assertConstantStatements(sqlStatementCounter, em, number -> {
+            ItemRequest itemRequest = new ItemRequest(null, "request" + number,
+                    em.getReference(User.class, user2.getId()), LocalDateTime.now().minusMinutes(number));
+            em.persist(itemRequest);
+            em.persist(new Item(null, "item" + number, "item for test", user1.getId(), true, itemRequest.getId()));
+        }, () -> itemRequestService.getAllRequests(user1.getId(), 0, 10));
+    }
+}
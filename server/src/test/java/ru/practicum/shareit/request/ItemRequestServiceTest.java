@@ -6,8 +6,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import ru.practicum.shareit.exception.RequestNotFoundException;
 import ru.practicum.shareit.exception.UserNotFoundException;
@@ -15,9 +14,11 @@ import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.item.ItemRepository;
 import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.dto.ItemMapper;
+import ru.practicum.shareit.pagination.OffsetPageRequest;
 import ru.practicum.shareit.request.dto.ItemRequestDto;
 import ru.practicum.shareit.request.dto.ItemRequestMapper;
 import ru.practicum.shareit.user.User;
+import ru.practicum.shareit.user.UserIdIndex;
 import ru.practicum.shareit.user.UserRepository;
 
 import java.time.LocalDateTime;
@@ -35,6 +36,8 @@ class ItemRequestServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
+    private UserIdIndex userIdIndex;
+    @Mock
     private ItemRepository itemRepository;
     @Mock
     private ItemRequestRepository itemRequestRepository;
@@ -117,9 +120,7 @@ class ItemRequestServiceTest {
 
     @Test
     void getUserRequests_whenUserHaveRequests_shouldReturnList() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
-        when(itemRequestRepository.findAllByRequesterId(user1.getId()))
+        when(itemRequestRepository.findAllByRequesterIdOrderByCreatedDescIdDesc(user1.getId()))
                 .thenReturn(List.of(itemRequest1, itemRequest2));
 
         List<ItemRequestDto> expected = List.of(itemRequestDto1, itemRequestDto2);
@@ -130,9 +131,7 @@ class ItemRequestServiceTest {
 
     @Test
     void getUserRequests_whenEmpty_shouldReturnEmptyList() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
-        when(itemRequestRepository.findAllByRequesterId(user1.getId()))
+        when(itemRequestRepository.findAllByRequesterIdOrderByCreatedDescIdDesc(user1.getId()))
                 .thenReturn(new ArrayList<>());
 
         List<ItemRequestDto> requests = itemRequestService.getUserRequests(user1.getId());
@@ -140,10 +139,26 @@ class ItemRequestServiceTest {
         assertEquals(0, requests.size());
     }
 
+    @Test
+    void getUserRequests_withPaging_shouldReturnRequestedPage() {
+        itemRequestDto2.getItems().add(itemDto2);
+        when(itemRequestRepository.findAllByRequesterIdOrderByCreatedDescIdDesc(
+                user1.getId(),
+                OffsetPageRequest.of(1, 1, Sort.unsorted())
+        ))
+                .thenReturn(new SliceImpl<>(List.of(itemRequest2)));
+        when(itemRepository.findAllByRequestIn(List.of(itemRequest2.getId())))
+                .thenReturn(List.of(item2));
+
+        List<ItemRequestDto> actual = itemRequestService.getUserRequests(user1.getId(), 1, 1);
+
+        assertIterableEquals(List.of(itemRequestDto2), actual);
+    }
+
     @Test
     void getUserRequests_withNotExistingUser_shouldThrowException() {
-        when(userRepository.findById(99L))
-                .thenReturn(Optional.empty());
+        doThrow(new UserNotFoundException("Пользователь с id=99 не найден."))
+                .when(userIdIndex).checkExists(99L);
 
         Throwable ex = assertThrows(UserNotFoundException.class,
                 () -> itemRequestService.getUserRequests(99));
@@ -152,19 +167,15 @@ class ItemRequestServiceTest {
 
     @Test
     void getAllRequests_shouldReturnList() {
-        when(userRepository.findById(user2.getId()))
-                .thenReturn(Optional.ofNullable(user2));
         itemRequestDto1.getItems().add(itemDto1);
         itemRequestDto2.getItems().add(itemDto2);
-        when(itemRepository.findAllByRequest(itemRequest1.getId()))
-                .thenReturn(List.of(item1));
-        when(itemRepository.findAllByRequest(itemRequest2.getId()))
-                .thenReturn(List.of(item2));
+        when(itemRepository.findAllByRequestIn(List.of(itemRequest1.getId(), itemRequest2.getId())))
+                .thenReturn(List.of(item1, item2));
         when(itemRequestRepository.findAllByRequesterIdIsNot(
                 user2.getId(),
-                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "created"))
+                OffsetPageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "created", "id"))
         ))
-                .thenReturn(new PageImpl<>(List.of(itemRequest1, itemRequest2)));
+                .thenReturn(new SliceImpl<>(List.of(itemRequest1, itemRequest2)));
 
         List<ItemRequestDto> expected = List.of(itemRequestDto1, itemRequestDto2);
         List<ItemRequestDto> actual = itemRequestService.getAllRequests(user2.getId(), 0, 10);
@@ -174,13 +185,11 @@ class ItemRequestServiceTest {
 
     @Test
     void getAllRequests_whenEmpty_shouldReturnEmptyList() {
-        when(userRepository.findById(user2.getId()))
-                .thenReturn(Optional.ofNullable(user2));
         when(itemRequestRepository.findAllByRequesterIdIsNot(
                 user2.getId(),
-                PageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "created"))
+                OffsetPageRequest.of(0, 10, Sort.by(Sort.Direction.DESC, "created", "id"))
         ))
-                .thenReturn(new PageImpl<>(new ArrayList<>()));
+                .thenReturn(new SliceImpl<>(new ArrayList<>()));
 
         List<ItemRequestDto> requests = itemRequestService.getAllRequests(user2.getId(), 0, 10);
 
@@ -189,8 +198,8 @@ class ItemRequestServiceTest {
 
     @Test
     void getAllRequests_withNotExistingUser_shouldThrowException() {
-        when(userRepository.findById(99L))
-                .thenReturn(Optional.empty());
+        doThrow(new UserNotFoundException("Пользователь с id=99 не найден."))
+                .when(userIdIndex).checkExists(99L);
 
         Throwable ex = assertThrows(UserNotFoundException.class,
                 () -> itemRequestService.getAllRequests(99, 0, 10));
@@ -199,8 +208,6 @@ class ItemRequestServiceTest {
 
     @Test
     void getRequestById_withExistingId_shouldReturnRequest() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(itemRequestRepository.findById(itemRequest1.getId()))
                 .thenReturn(Optional.ofNullable(itemRequest1));
         when(itemRepository.findAllByRequest(itemRequest1.getId()))
@@ -214,8 +221,6 @@ class ItemRequestServiceTest {
 
     @Test
     void getRequestById_withNoItems_shouldReturnRequestWithEmptyItemList() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(itemRequestRepository.findById(itemRequest1.getId()))
                 .thenReturn(Optional.ofNullable(itemRequest1));
         when(itemRepository.findAllByRequest(itemRequest1.getId()))
@@ -228,8 +233,8 @@ class ItemRequestServiceTest {
 
     @Test
     void getRequestById_withNotExistingUserId_shouldThrowException() {
-        when(userRepository.findById(99L))
-                .thenReturn(Optional.empty());
+        doThrow(new UserNotFoundException("Пользователь с id=99 не найден."))
+                .when(userIdIndex).checkExists(99L);
 
         Throwable ex = assertThrows(UserNotFoundException.class,
                 () -> itemRequestService.getRequestById(99, itemRequest1.getId()));
@@ -238,8 +243,6 @@ class ItemRequestServiceTest {
 
     @Test
     void getRequestById_withNotExistingRequestId_shouldThrowException() {
-        when(userRepository.findById(user1.getId()))
-                .thenReturn(Optional.ofNullable(user1));
         when(itemRequestRepository.findById(99L))
                 .thenReturn(Optional.empty());
 
@@ -6,6 +6,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.user.dto.UserDto;
 
@@ -13,6 +14,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(controllers = UserController.class)
@@ -36,11 +38,39 @@ class UserControllerTest {
     @Test
     @SneakyThrows
     void getUserById_shouldReturnOk() {
+        when(userService.getUserById(anyLong())).thenReturn(new UserDto(1L, "name", "email@mail.ru"));
+
         mvc.perform(get(USERS_PATH + "/1")).andExpect(status().isOk());
 
         verify(userService).getUserById(anyLong());
     }
 
+    @Test
+    @SneakyThrows
+    void getUserById_shouldReturnEtag() {
+        UserDto user = new UserDto(1L, "name", "email@mail.ru");
+        user.setEtag("\"1\"");
+        when(userService.getUserById(1)).thenReturn(user);
+
+        mvc.perform(get(USERS_PATH + "/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+    }
+
+    @Test
+    @SneakyThrows
+    void getUserById_withMatchingIfNoneMatch_shouldReturnNotModified() {
+        UserDto user = new UserDto(1L, "name", "email@mail.ru");
+        user.setEtag("\"1\"");
+        when(userService.getUserById(1)).thenReturn(user);
+
+        String result = mvc.perform(get(USERS_PATH + "/1").header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isNotModified())
+                .andReturn().getResponse().getContentAsString();
+
+        assertEquals("", result);
+    }
+
     @Test
     @SneakyThrows
     void createUser_shouldReturnOkAndUser() {
@@ -0,0 +1,81 @@
+package ru.practicum.shareit.user;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.practicum.shareit.exception.UserNotFoundException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class UserIdIndexTest {
+    @Mock
+    private UserRepository userRepository;
+    private final AtomicLong nanos = new AtomicLong();
+    private UserIdIndex userIdIndex;
+
+    @BeforeEach
+    public void beforeEach() {
+        userIdIndex = new UserIdIndex(userRepository, 100, Duration.ofMinutes(1), nanos::get);
+    }
+
+    @Test
+    public void checkExists_withExistingUser_shouldQueryRepositoryOnce() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+
+        userIdIndex.checkExists(1L);
+        userIdIndex.checkExists(1L);
+
+        verify(userRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    public void checkExists_withNotExistingUser_shouldThrowExceptionEveryTime() {
+        when(userRepository.existsById(99L)).thenReturn(false);
+
+        Throwable ex = assertThrows(UserNotFoundException.class, () -> userIdIndex.checkExists(99L));
+        assertEquals("Пользователь с id=99 не найден.", ex.getMessage());
+        assertThrows(UserNotFoundException.class, () -> userIdIndex.checkExists(99L));
+        verify(userRepository, times(2)).existsById(99L);
+    }
+
+    @Test
+    public void remove_withKnownUser_shouldQueryRepositoryAgain() {
+        when(userRepository.existsById(1L)).thenReturn(true, false);
+        userIdIndex.checkExists(1L);
+
+        userIdIndex.remove(1L);
+
+        assertThrows(UserNotFoundException.class, () -> userIdIndex.checkExists(1L));
+    }
+
+    @Test
+    public void checkExists_withUserRemovedDuringQuery_shouldNotRememberUser() {
+        when(userRepository.existsById(1L)).thenAnswer(invocation -> {
+            userIdIndex.remove(1L);
+            return true;
+        }).thenReturn(false);
+
+        userIdIndex.checkExists(1L);
+
+        assertThrows(UserNotFoundException.class, () -> userIdIndex.checkExists(1L));
+    }
+
+    @Test
+    public void checkExists_withUserDeletedElsewhereAfterExpiry_shouldQueryRepositoryAgain() {
+        when(userRepository.existsById(1L)).thenReturn(true, false);
+        userIdIndex.checkExists(1L);
+        userIdIndex.checkExists(1L);
+
+        nanos.addAndGet(Duration.ofMinutes(1).plusSeconds(1).toNanos());
+
+        assertThrows(UserNotFoundException.class, () -> userIdIndex.checkExists(1L));
+        verify(userRepository, times(2)).existsById(1L);
+    }
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.user;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -7,10 +8,13 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.transaction.TestTransaction;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.Item;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
 
+import javax.persistence.Cache;
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 
@@ -26,6 +30,7 @@ import static org.junit.jupiter.api.Assertions.*;
 class UserServiceIT {
     private final EntityManager em;
     private final UserService userService;
+    private final MeterRegistry meterRegistry;
     private User user1;
     private User user2;
 
@@ -51,6 +56,22 @@ class UserServiceIT {
         assertEquals("user2@test.com", users.get(1).getEmail());
     }
 
+    @Test
+    void getAllUsers_shouldRecordServiceTimerAndSqlStatements() {
+        em.persist(user1);
+        em.flush();
+        double statementsBefore = meterRegistry.get("shareit.sql.statements").counter().count();
+
+        userService.getAllUsers();
+
+        assertEquals(1, meterRegistry.get("shareit.service")
+                .tag("class", UserServiceImpl.class.getName())
+                .tag("method", "getAllUsers")
+                .timer()
+                .count());
+        assertTrue(meterRegistry.get("shareit.sql.statements").counter().count() > statementsBefore);
+    }
+
     @Test
     void getUserById() {
         em.persist(user1);
@@ -62,6 +83,35 @@ class UserServiceIT {
         assertEquals("user1@test.com", user.getEmail());
     }
 
+    @Test
+    void getUserById_shouldPutUserIntoSecondLevelCache() {
+        em.persist(user1);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        Cache cache = em.getEntityManagerFactory().getCache();
+        cache.evict(User.class);
+
+        TestTransaction.start();
+        userService.getUserById(user1.getId());
+
+        assertTrue(cache.contains(User.class, user1.getId()));
+    }
+
+    @Test
+    void createUser_withRawSqlInsertInBetween_shouldNotReuseIds() {
+        UserDto created = userService.createUser(UserMapper.toUserDto(user1));
+        em.flush();
+
+        em.createNativeQuery("INSERT INTO users (name, email) VALUES ('raw', 'raw@test.com')").executeUpdate();
+        UserDto next = userService.createUser(UserMapper.toUserDto(user2));
+        em.flush();
+
+        Number rawId = (Number) em.createNativeQuery("SELECT id FROM users WHERE email = 'raw@test.com'")
+                .getSingleResult();
+        assertNotEquals(created.getId(), rawId.longValue());
+        assertNotEquals(next.getId(), rawId.longValue());
+    }
+
     @Test
     void createUser() {
         UserDto userDto1 = UserMapper.toUserDto(user1);
@@ -91,6 +141,20 @@ class UserServiceIT {
         assertEquals("update@test.com", user.getEmail());
     }
 
+    @Test
+    void updateUser_shouldChangeEtag() {
+        em.persist(user1);
+        String etag = userService.getUserById(1L).getEtag();
+
+        assertNotNull(etag);
+        assertEquals(etag, userService.getUserById(1L).getEtag());
+
+        userService.updateUser(1L, new UserDto(null, "updatedUser", null));
+        em.flush();
+
+        assertNotEquals(etag, userService.getUserById(1L).getEtag());
+    }
+
     @Test
     void deleteUser() {
         em.persist(user1);
@@ -101,4 +165,24 @@ class UserServiceIT {
 
         assertTrue(user.isEmpty());
     }
+
+    @Test
+    void deleteUser_shouldEvictOwnerItemsFromSecondLevelCache() {
+        em.persist(user1);
+        Item item = new Item(null, "item", "description", user1.getId(), true, null);
+        em.persist(item);
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        Cache cache = em.getEntityManagerFactory().getCache();
+        TestTransaction.start();
+        em.find(Item.class, item.getId());
+
+        assertTrue(cache.contains(Item.class, item.getId()));
+
+        userService.deleteUser(user1.getId());
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+
+        assertFalse(cache.contains(Item.class, item.getId()));
+    }
 }
\ No newline at end of file
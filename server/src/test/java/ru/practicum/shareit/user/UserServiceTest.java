@@ -6,9 +6,13 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.*;
 import org.mockito.junit.jupiter.MockitoExtension;
 import ru.practicum.shareit.exception.UserNotFoundException;
+import ru.practicum.shareit.item.Item;
+import ru.practicum.shareit.item.ItemSearchIndex;
 import ru.practicum.shareit.user.dto.UserDto;
 import ru.practicum.shareit.user.dto.UserMapper;
 
+import javax.persistence.Cache;
+import javax.persistence.EntityManagerFactory;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -22,6 +26,14 @@ class UserServiceTest {
     private UserServiceImpl userService;
     @Mock
     private UserRepository userRepository;
+    @Mock
+    private UserIdIndex userIdIndex;
+    @Mock
+    private ItemSearchIndex itemSearchIndex;
+    @Mock
+    private EntityManagerFactory entityManagerFactory;
+    @Mock
+    private Cache cache;
     @Captor
     private ArgumentCaptor<User> userArgumentCaptor;
     private User user1;
@@ -142,10 +154,14 @@ class UserServiceTest {
     @Test
     public void deleteUser_withExistingId_shouldInvokeMethod() {
         when(userRepository.findById(1L)).thenReturn(Optional.ofNullable(user1));
+        when(entityManagerFactory.getCache()).thenReturn(cache);
 
         userService.deleteUser(1L);
 
         verify(userRepository, times(1)).deleteById(1L);
+        verify(itemSearchIndex, times(1)).removeByOwner(1L);
+        verify(userIdIndex, times(1)).remove(1L);
+        verify(cache, times(1)).evict(Item.class);
     }
 
     @Test